@@ -31,6 +31,14 @@ android {
     kotlinOptions {
         jvmTarget = "1.8"
     }
+    testOptions {
+        unitTests.all {
+            // Opt-in timing harnesses, e.g. ./gradlew test -Dbenchmark=true
+            for (name in listOf("benchmark", "benchmark.iterations")) {
+                System.getProperty(name)?.let { value -> it.systemProperty(name, value) }
+            }
+        }
+    }
 }
 
 dependencies {
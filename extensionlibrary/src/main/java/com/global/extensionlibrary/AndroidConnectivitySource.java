@@ -0,0 +1,82 @@
+package com.global.extensionlibrary;
+
+import android.content.Context;
+import android.net.ConnectivityManager;
+import android.net.Network;
+import android.net.NetworkCapabilities;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * ConnectivitySource backed by ConnectivityManager's default network callback.
+ * Requires the ACCESS_NETWORK_STATE permission.
+ */
+public class AndroidConnectivitySource implements DeferredWorkBatcher.ConnectivitySource {
+
+    private final ConnectivityManager connectivityManager;
+    private final Object lock = new Object();
+    private DeferredWorkBatcher.ConnectivityListener listener;
+    private ConnectivityManager.NetworkCallback callback;
+
+    /**
+     * @param context Any context; the application context is used
+     */
+    public AndroidConnectivitySource(@NonNull Context context) {
+        connectivityManager = (ConnectivityManager) context.getApplicationContext()
+                .getSystemService(Context.CONNECTIVITY_SERVICE);
+    }
+
+    @NonNull
+    @Override
+    public DeferredWorkBatcher.NetworkState getCurrentState() {
+        if (connectivityManager == null) return DeferredWorkBatcher.NetworkState.DISCONNECTED;
+
+        Network network = connectivityManager.getActiveNetwork();
+        return toState(network != null ? connectivityManager.getNetworkCapabilities(network) : null);
+    }
+
+    @Override
+    public void setListener(@Nullable DeferredWorkBatcher.ConnectivityListener newListener) {
+        if (connectivityManager == null) return;
+
+        synchronized (lock) {
+            listener = newListener;
+            if (newListener != null && callback == null) {
+                callback = new ConnectivityManager.NetworkCallback() {
+                    @Override
+                    public void onCapabilitiesChanged(@NonNull Network network, @NonNull NetworkCapabilities capabilities) {
+                        dispatch(toState(capabilities));
+                    }
+
+                    @Override
+                    public void onLost(@NonNull Network network) {
+                        dispatch(DeferredWorkBatcher.NetworkState.DISCONNECTED);
+                    }
+                };
+                connectivityManager.registerDefaultNetworkCallback(callback);
+            } else if (newListener == null && callback != null) {
+                connectivityManager.unregisterNetworkCallback(callback);
+                callback = null;
+            }
+        }
+    }
+
+    private void dispatch(DeferredWorkBatcher.NetworkState state) {
+        DeferredWorkBatcher.ConnectivityListener current;
+        synchronized (lock) {
+            current = listener;
+        }
+        if (current != null) current.onNetworkStateChanged(state);
+    }
+
+    private static DeferredWorkBatcher.NetworkState toState(NetworkCapabilities capabilities) {
+        if (capabilities == null
+                || !capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET)) {
+            return DeferredWorkBatcher.NetworkState.DISCONNECTED;
+        }
+        return new DeferredWorkBatcher.NetworkState(true,
+                capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_NOT_METERED),
+                capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_VALIDATED));
+    }
+}
@@ -230,6 +230,15 @@ public class AndroidUtils {
         return timeUnit.convert(diffInMillis, TimeUnit.MILLISECONDS);
     }
     
+    /**
+     * Get a relative time label such as "5 min. ago" or "in 2 hr.", cached per bucket and locale
+     * @param timeMillis Epoch millis to describe
+     * @return Relative time label for the default locale
+     */
+    public static String getRelativeTime(long timeMillis) {
+        return RelativeTimeFormatter.getInstance().format(timeMillis, System.currentTimeMillis());
+    }
+    
     /**
      * PERMISSION UTILITIES
      */
@@ -365,6 +374,23 @@ public class AndroidUtils {
         return Patterns.PHONE.matcher(phone).matches();
     }
     
+    /**
+     * Normalize phone number to E.164 format for comparison and deduplication
+     * @param phone Phone number in any common format
+     * @param regionCode ISO 3166-1 alpha-2 region used for national numbers (e.g. "US"), may be null
+     * @return E.164 number (e.g. "+14155551234") or null if invalid, or national while the region is unknown
+     */
+    public static String normalizePhone(String phone, String regionCode) {
+        if (TextUtils.isEmpty(phone)) return null;
+        
+        PhoneNumberNormalizer normalizer = PhoneNumberNormalizer.forRegion(regionCode);
+        if (normalizer == null) {
+            // International numbers can still be normalized without a region
+            normalizer = PhoneNumberNormalizer.forUnknownRegion();
+        }
+        return normalizer.normalize(phone);
+    }
+    
     /**
      * Validate URL
      * @param url URL to validate
@@ -373,7 +399,18 @@ public class AndroidUtils {
     public static boolean isValidUrl(String url) {
         if (TextUtils.isEmpty(url)) return false;
         
-        return Patterns.WEB_URL.matcher(url).matches();
+        return UrlParser.isValid(url);
+    }
+    
+    /**
+     * Normalize URL for use as a cache key (lowercase host, default port removed, uniform percent-encoding)
+     * @param url URL to normalize
+     * @return Normalized URL or null if invalid
+     */
+    public static String normalizeUrl(String url) {
+        if (TextUtils.isEmpty(url)) return null;
+        
+        return UrlParser.normalize(url);
     }
     
     /**
@@ -418,11 +455,7 @@ public class AndroidUtils {
         try {
             MessageDigest md = MessageDigest.getInstance("MD5");
             byte[] digest = md.digest(input.getBytes());
-            StringBuilder sb = new StringBuilder();
-            for (byte b : digest) {
-                sb.append(String.format("%02x", b));
-            }
-            return sb.toString();
+            return HashUtils.toHex(digest);
         } catch (NoSuchAlgorithmException e) {
             Log.e(TAG, "Error generating MD5: " + e.getMessage());
             return "";
@@ -440,17 +473,24 @@ public class AndroidUtils {
         try {
             MessageDigest md = MessageDigest.getInstance("SHA-256");
             byte[] digest = md.digest(input.getBytes());
-            StringBuilder sb = new StringBuilder();
-            for (byte b : digest) {
-                sb.append(String.format("%02x", b));
-            }
-            return sb.toString();
+            return HashUtils.toHex(digest);
         } catch (NoSuchAlgorithmException e) {
             Log.e(TAG, "Error generating SHA-256: " + e.getMessage());
             return "";
         }
     }
     
+    /**
+     * Generate a fast non-cryptographic hash for cache keys and deduplication (not for security)
+     * @param input String to hash
+     * @return 16 character xxHash64 hex string or "" if input is empty
+     */
+    public static String fastHash(String input) {
+        if (TextUtils.isEmpty(input)) return "";
+
+        return HashUtils.toHex(HashUtils.xxHash64(input));
+    }
+    
     /**
      * Encode string to Base64
      * @param input String to encode
@@ -584,7 +624,18 @@ public class AndroidUtils {
     public static boolean isAndroid11OrHigher() {
         return Build.VERSION.SDK_INT >= Build.VERSION_CODES.R;
     }
-    
+
+    /**
+     * Get the cached device capability profile (cores, RAM, memory class, density, performance class)
+     * @param context Application context
+     * @return DeviceProfile or null if context is null
+     */
+    public static DeviceProfile getDeviceProfile(Context context) {
+        if (context == null) return null;
+
+        return DeviceProfile.get(context);
+    }
+
     /**
      * INTENT UTILITIES
      */
@@ -599,8 +650,8 @@ public class AndroidUtils {
         if (context == null || TextUtils.isEmpty(url)) return false;
         
         try {
-            if (!url.startsWith("http://") && !url.startsWith("https://")) {
-                url = "http://" + url;
+            if (!UrlParser.hasWebScheme(url)) {
+                url = "http://" + url.trim();
             }
             Intent intent = new Intent(Intent.ACTION_VIEW, Uri.parse(url));
             context.startActivity(intent);
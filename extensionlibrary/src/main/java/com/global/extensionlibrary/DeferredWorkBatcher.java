@@ -0,0 +1,349 @@
+package com.global.extensionlibrary;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects small deferrable network jobs and runs them together, so the cellular radio wakes up
+ * once per batch instead of once per request.
+ *
+ * A pending batch is flushed when the device comes online, when the connection becomes unmetered
+ * or validated, when the batch reaches its size threshold, or when the oldest job has waited the
+ * maximum delay (as soon as a connection is available). Urgent jobs bypass the batch and run
+ * immediately, taking the pending batch with them while the radio is awake anyway.
+ *
+ * This class has no Android dependencies: pass {@link AndroidConnectivitySource} in an app and a
+ * fake {@link ConnectivitySource} in plain JVM tests.
+ */
+public final class DeferredWorkBatcher {
+
+    public static final int PRIORITY_DEFERRABLE = 0;
+    public static final int PRIORITY_URGENT = 1;
+
+    /**
+     * Source of network state changes
+     */
+    public interface ConnectivitySource {
+
+        /**
+         * @return Current network state, never null
+         */
+        @NonNull
+        NetworkState getCurrentState();
+
+        /**
+         * Start delivering state changes to the listener, or stop when listener is null
+         * @param listener Listener to notify, may be called from any thread
+         */
+        void setListener(@Nullable ConnectivityListener listener);
+    }
+
+    /**
+     * Receives network state changes from a ConnectivitySource
+     */
+    public interface ConnectivityListener {
+        void onNetworkStateChanged(@NonNull NetworkState state);
+    }
+
+    /**
+     * Receives exceptions thrown by jobs; the rest of the batch still runs
+     */
+    public interface OnJobFailedListener {
+        void onJobFailed(@NonNull Runnable job, @NonNull RuntimeException error);
+    }
+
+    /**
+     * Immutable snapshot of the default network
+     */
+    public static final class NetworkState {
+
+        public static final NetworkState DISCONNECTED = new NetworkState(false, false, false);
+
+        private final boolean connected;
+        private final boolean unmetered;
+        private final boolean validated;
+
+        /**
+         * @param connected Whether a network is available
+         * @param unmetered Whether the network is not metered (typically Wi-Fi or Ethernet)
+         * @param validated Whether the system verified the network reaches the internet
+         */
+        public NetworkState(boolean connected, boolean unmetered, boolean validated) {
+            this.connected = connected;
+            this.unmetered = connected && unmetered;
+            this.validated = connected && validated;
+        }
+
+        public boolean isConnected() {
+            return connected;
+        }
+
+        public boolean isUnmetered() {
+            return unmetered;
+        }
+
+        public boolean isValidated() {
+            return validated;
+        }
+
+        @Override
+        public String toString() {
+            return "NetworkState{connected=" + connected + ", unmetered=" + unmetered + ", validated=" + validated + "}";
+        }
+    }
+
+    private final Object lock = new Object();
+    private final ConnectivitySource connectivitySource;
+    private final ScheduledExecutorService executor;
+    private final boolean ownsExecutor;
+    private final int maxBatchSize;
+    private final long maxDelayMillis;
+    private final OnJobFailedListener onJobFailedListener;
+
+    private List<Runnable> pending = new ArrayList<>();
+    private NetworkState state;
+    private ScheduledFuture<?> deadline;
+    private boolean overdue;
+    private boolean shutdown;
+
+    private DeferredWorkBatcher(Builder builder) {
+        connectivitySource = builder.connectivitySource;
+        maxBatchSize = builder.maxBatchSize;
+        maxDelayMillis = builder.maxDelayMillis;
+        onJobFailedListener = builder.onJobFailedListener;
+        if (builder.executor != null) {
+            executor = builder.executor;
+            ownsExecutor = false;
+        } else {
+            executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(@NonNull Runnable runnable) {
+                    Thread thread = new Thread(runnable, "DeferredWorkBatcher");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            ownsExecutor = true;
+        }
+
+        state = connectivitySource.getCurrentState();
+        connectivitySource.setListener(new ConnectivityListener() {
+            @Override
+            public void onNetworkStateChanged(@NonNull NetworkState newState) {
+                onStateChanged(newState);
+            }
+        });
+    }
+
+    /**
+     * Queue a deferrable job
+     * @param job Work to run with the next batch
+     */
+    public void submit(@NonNull Runnable job) {
+        submit(job, PRIORITY_DEFERRABLE);
+    }
+
+    /**
+     * Queue a job with a priority
+     * @param job Work to run
+     * @param priority PRIORITY_DEFERRABLE to batch it, PRIORITY_URGENT to run it now
+     * @throws IllegalStateException if the batcher has been shut down
+     */
+    public void submit(@NonNull Runnable job, int priority) {
+        synchronized (lock) {
+            if (shutdown) throw new IllegalStateException("DeferredWorkBatcher has been shut down");
+
+            if (priority == PRIORITY_URGENT) {
+                // The radio is about to wake up for this job anyway, so take the batch along
+                List<Runnable> batch = state.isConnected() ? takePendingLocked() : new ArrayList<Runnable>(1);
+                batch.add(0, job);
+                runLocked(batch);
+                return;
+            }
+
+            pending.add(job);
+            if (pending.size() == 1) {
+                scheduleDeadlineLocked();
+            }
+            if (pending.size() >= maxBatchSize && state.isConnected()) {
+                runLocked(takePendingLocked());
+            }
+        }
+    }
+
+    /**
+     * Run all pending jobs now, regardless of connectivity
+     */
+    public void flush() {
+        synchronized (lock) {
+            if (shutdown || pending.isEmpty()) return;
+            runLocked(takePendingLocked());
+        }
+    }
+
+    /**
+     * Get the number of jobs waiting for the next batch
+     * @return Pending job count
+     */
+    public int getPendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * Stop listening for connectivity changes and drop pending jobs. Jobs already handed to the
+     * executor still run; an executor created by the batcher is shut down after them.
+     * @return Jobs that were pending and will not run
+     */
+    @NonNull
+    public List<Runnable> shutdown() {
+        synchronized (lock) {
+            if (shutdown) return new ArrayList<>();
+
+            shutdown = true;
+            connectivitySource.setListener(null);
+            List<Runnable> dropped = takePendingLocked();
+            if (ownsExecutor) executor.shutdown();
+            return dropped;
+        }
+    }
+
+    private void onStateChanged(NetworkState newState) {
+        synchronized (lock) {
+            NetworkState oldState = state;
+            state = newState;
+            if (shutdown || pending.isEmpty() || !newState.isConnected()) return;
+
+            boolean cameOnline = !oldState.isConnected();
+            boolean becameUnmetered = newState.isUnmetered() && !oldState.isUnmetered();
+            boolean becameValidated = newState.isValidated() && !oldState.isValidated();
+            if (cameOnline || becameUnmetered || becameValidated || overdue) {
+                runLocked(takePendingLocked());
+            }
+        }
+    }
+
+    private void onDeadline() {
+        synchronized (lock) {
+            deadline = null;
+            if (shutdown || pending.isEmpty()) return;
+
+            if (state.isConnected()) {
+                runLocked(takePendingLocked());
+            } else {
+                // Flushed by the next connectivity change
+                overdue = true;
+            }
+        }
+    }
+
+    private void scheduleDeadlineLocked() {
+        deadline = executor.schedule(new Runnable() {
+            @Override
+            public void run() {
+                onDeadline();
+            }
+        }, maxDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private List<Runnable> takePendingLocked() {
+        List<Runnable> batch = pending;
+        pending = new ArrayList<>();
+        overdue = false;
+        if (deadline != null) {
+            deadline.cancel(false);
+            deadline = null;
+        }
+        return batch;
+    }
+
+    private void runLocked(final List<Runnable> batch) {
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                for (Runnable job : batch) {
+                    try {
+                        job.run();
+                    } catch (RuntimeException e) {
+                        if (onJobFailedListener != null) onJobFailedListener.onJobFailed(job, e);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Builder for DeferredWorkBatcher
+     */
+    public static final class Builder {
+
+        private final ConnectivitySource connectivitySource;
+        private ScheduledExecutorService executor;
+        private int maxBatchSize = 20;
+        private long maxDelayMillis = TimeUnit.MINUTES.toMillis(15);
+        private OnJobFailedListener onJobFailedListener;
+
+        /**
+         * @param connectivitySource Network state source, e.g. new AndroidConnectivitySource(context)
+         */
+        public Builder(@NonNull ConnectivitySource connectivitySource) {
+            this.connectivitySource = connectivitySource;
+        }
+
+        /**
+         * Flush as soon as this many deferrable jobs are pending and a network is available (default 20)
+         * @param maxBatchSize Size threshold, at least 1
+         * @return This builder
+         */
+        public Builder setMaxBatchSize(int maxBatchSize) {
+            if (maxBatchSize < 1) throw new IllegalArgumentException("maxBatchSize must be at least 1");
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Flush once the oldest pending job has waited this long and a network is available (default 15 minutes)
+         * @param delay Maximum delay
+         * @param unit Delay unit
+         * @return This builder
+         */
+        public Builder setMaxDelay(long delay, @NonNull TimeUnit unit) {
+            if (delay < 0) throw new IllegalArgumentException("delay must not be negative");
+            this.maxDelayMillis = unit.toMillis(delay);
+            return this;
+        }
+
+        /**
+         * Executor for timers and job execution; jobs in a batch run one after another on it.
+         * Defaults to a private single daemon thread.
+         * @param executor Executor to use, not shut down by the batcher
+         * @return This builder
+         */
+        public Builder setExecutor(@NonNull ScheduledExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * @param listener Receives exceptions thrown by jobs
+         * @return This builder
+         */
+        public Builder setOnJobFailedListener(@Nullable OnJobFailedListener listener) {
+            this.onJobFailedListener = listener;
+            return this;
+        }
+
+        public DeferredWorkBatcher build() {
+            return new DeferredWorkBatcher(this);
+        }
+    }
+}
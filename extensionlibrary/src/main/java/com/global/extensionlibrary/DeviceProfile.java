@@ -0,0 +1,250 @@
+package com.global.extensionlibrary;
+
+import android.app.ActivityManager;
+import android.content.Context;
+import android.os.Build;
+import android.util.DisplayMetrics;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Snapshot of device capabilities with a coarse performance class, computed once and cached.
+ *
+ * Use it to size caches, thread pools and image decode resolution per device. Call
+ * {@link #prefetch(Context)} early (e.g. from Application.onCreate) to compute it on a
+ * background thread so the first {@link #get(Context)} does not land on the startup path.
+ */
+public final class DeviceProfile {
+
+    public static final int PERFORMANCE_CLASS_LOW = 0;
+    public static final int PERFORMANCE_CLASS_MID = 1;
+    public static final int PERFORMANCE_CLASS_HIGH = 2;
+
+    private static final long GB = 1024L * 1024L * 1024L;
+
+    private static volatile DeviceProfile instance;
+
+    private final int cpuCores;
+    private final long totalRamBytes;
+    private final long availableRamBytes;
+    private final boolean lowRamDevice;
+    private final int memoryClass;
+    private final int largeMemoryClass;
+    private final int densityDpi;
+    private final String densityBucket;
+    private final int performanceClass;
+
+    private DeviceProfile(Context context) {
+        ActivityManager activityManager = (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+        ActivityManager.MemoryInfo memoryInfo = new ActivityManager.MemoryInfo();
+        if (activityManager != null) {
+            activityManager.getMemoryInfo(memoryInfo);
+        }
+
+        cpuCores = Runtime.getRuntime().availableProcessors();
+        totalRamBytes = memoryInfo.totalMem;
+        availableRamBytes = memoryInfo.availMem;
+        lowRamDevice = activityManager != null && activityManager.isLowRamDevice();
+        memoryClass = activityManager != null ? activityManager.getMemoryClass() : 0;
+        largeMemoryClass = activityManager != null ? activityManager.getLargeMemoryClass() : 0;
+        densityDpi = context.getResources().getDisplayMetrics().densityDpi;
+        densityBucket = toDensityBucket(densityDpi);
+        int mediaPerformanceClass = Build.VERSION.SDK_INT >= Build.VERSION_CODES.S ? Build.VERSION.MEDIA_PERFORMANCE_CLASS : 0;
+        performanceClass = classify(cpuCores, totalRamBytes, lowRamDevice, memoryClass, mediaPerformanceClass);
+    }
+
+    /**
+     * Get the device profile, computing it on the first call
+     * @param context Any context; the application context is used
+     * @return Cached device profile
+     */
+    @NonNull
+    public static DeviceProfile get(@NonNull Context context) {
+        DeviceProfile profile = instance;
+        if (profile == null) {
+            synchronized (DeviceProfile.class) {
+                profile = instance;
+                if (profile == null) {
+                    profile = new DeviceProfile(context.getApplicationContext());
+                    instance = profile;
+                }
+            }
+        }
+        return profile;
+    }
+
+    /**
+     * Compute the device profile on a background thread if it is not cached yet
+     * @param context Any context; the application context is used
+     */
+    public static void prefetch(@NonNull Context context) {
+        if (instance != null) return;
+
+        final Context appContext = context.getApplicationContext();
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                get(appContext);
+            }
+        }, "DeviceProfile");
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Get the number of CPU cores available to the VM
+     * @return Core count
+     */
+    public int getCpuCores() {
+        return cpuCores;
+    }
+
+    /**
+     * Get total RAM visible to the kernel
+     * @return Total RAM in bytes
+     */
+    public long getTotalRamBytes() {
+        return totalRamBytes;
+    }
+
+    /**
+     * Get available RAM at the time the profile was computed. This is a snapshot and is not refreshed.
+     * @return Available RAM in bytes
+     */
+    public long getAvailableRamBytes() {
+        return availableRamBytes;
+    }
+
+    /**
+     * Check if the system reports this as a low RAM device
+     * @return true if ActivityManager.isLowRamDevice(), false otherwise
+     */
+    public boolean isLowRamDevice() {
+        return lowRamDevice;
+    }
+
+    /**
+     * Get the per-app heap limit
+     * @return Memory class in megabytes
+     */
+    public int getMemoryClass() {
+        return memoryClass;
+    }
+
+    /**
+     * Get the per-app heap limit for apps with android:largeHeap
+     * @return Large memory class in megabytes
+     */
+    public int getLargeMemoryClass() {
+        return largeMemoryClass;
+    }
+
+    /**
+     * Get the screen density
+     * @return Density in dpi
+     */
+    public int getDensityDpi() {
+        return densityDpi;
+    }
+
+    /**
+     * Get the screen density bucket
+     * @return One of "ldpi", "mdpi", "hdpi", "xhdpi", "xxhdpi", "xxxhdpi"
+     */
+    public String getDensityBucket() {
+        return densityBucket;
+    }
+
+    /**
+     * Get the coarse performance class
+     * @return PERFORMANCE_CLASS_LOW, PERFORMANCE_CLASS_MID or PERFORMANCE_CLASS_HIGH
+     */
+    public int getPerformanceClass() {
+        return performanceClass;
+    }
+
+    /**
+     * Check if the device is in the low performance class
+     * @return true if low, false otherwise
+     */
+    public boolean isLowEnd() {
+        return performanceClass == PERFORMANCE_CLASS_LOW;
+    }
+
+    /**
+     * Suggested size for an in-memory cache (e.g. an LruCache of bitmaps)
+     * @return Cache size in bytes: 1/16 of the heap on low, 1/8 on mid and high class devices
+     */
+    public long getSuggestedMemoryCacheBytes() {
+        long heapBytes = memoryClass * 1024L * 1024L;
+        return performanceClass == PERFORMANCE_CLASS_LOW ? heapBytes / 16 : heapBytes / 8;
+    }
+
+    /**
+     * Suggested size for a background thread pool doing CPU work
+     * @return Thread count, at least 1
+     */
+    public int getSuggestedThreadCount() {
+        switch (performanceClass) {
+            case PERFORMANCE_CLASS_LOW:
+                return Math.max(1, Math.min(2, cpuCores - 1));
+            case PERFORMANCE_CLASS_MID:
+                return Math.max(2, Math.min(4, cpuCores - 1));
+            default:
+                return Math.max(2, cpuCores - 1);
+        }
+    }
+
+    /**
+     * Suggested BitmapFactory.Options.inSampleSize multiplier for decoding large images
+     * @return 2 on low class devices, 1 otherwise
+     */
+    public int getSuggestedDecodeSampleSize() {
+        return performanceClass == PERFORMANCE_CLASS_LOW ? 2 : 1;
+    }
+
+    /**
+     * Compute the coarse performance class from raw device figures
+     * @param cores CPU core count
+     * @param totalRamBytes Total RAM visible to the kernel (ActivityManager.MemoryInfo.totalMem)
+     * @param lowRam ActivityManager.isLowRamDevice()
+     * @param memoryClass Per-app heap limit in megabytes
+     * @param mediaPerformanceClass Build.VERSION.MEDIA_PERFORMANCE_CLASS, or 0 if not declared
+     * @return PERFORMANCE_CLASS_LOW, PERFORMANCE_CLASS_MID or PERFORMANCE_CLASS_HIGH
+     */
+    static int classify(int cores, long totalRamBytes, boolean lowRam, int memoryClass, int mediaPerformanceClass) {
+        if (mediaPerformanceClass >= Build.VERSION_CODES.R) {
+            // Device is certified against the Android media performance class requirements
+            return PERFORMANCE_CLASS_HIGH;
+        }
+        // totalMem excludes kernel reserved memory, so a nominal 6 GB device reports ~5.5 GB
+        long nominalRamGb = (totalRamBytes + GB - 1) / GB;
+        if (lowRam || cores <= 2 || nominalRamGb < 2 || memoryClass < 128) {
+            return PERFORMANCE_CLASS_LOW;
+        }
+        if (cores < 8 || nominalRamGb < 6 || memoryClass < 256) {
+            return PERFORMANCE_CLASS_MID;
+        }
+        return PERFORMANCE_CLASS_HIGH;
+    }
+
+    private static String toDensityBucket(int densityDpi) {
+        if (densityDpi <= DisplayMetrics.DENSITY_LOW) return "ldpi";
+        if (densityDpi <= DisplayMetrics.DENSITY_MEDIUM) return "mdpi";
+        if (densityDpi <= DisplayMetrics.DENSITY_HIGH) return "hdpi";
+        if (densityDpi <= DisplayMetrics.DENSITY_XHIGH) return "xhdpi";
+        if (densityDpi <= DisplayMetrics.DENSITY_XXHIGH) return "xxhdpi";
+        return "xxxhdpi";
+    }
+
+    @Override
+    public String toString() {
+        return "DeviceProfile{cores=" + cpuCores
+                + ", totalRam=" + totalRamBytes
+                + ", availableRam=" + availableRamBytes
+                + ", lowRam=" + lowRamDevice
+                + ", memoryClass=" + memoryClass
+                + ", density=" + densityBucket
+                + ", performanceClass=" + performanceClass + "}";
+    }
+}
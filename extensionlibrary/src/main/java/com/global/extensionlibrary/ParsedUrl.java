@@ -0,0 +1,204 @@
+package com.global.extensionlibrary;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * URL components as offsets into the parsed input, filled by {@link UrlParser#parse(CharSequence, ParsedUrl)}.
+ *
+ * Nothing is copied while parsing; the get* accessors create substrings on demand, while the
+ * offset accessors and the *Equals helpers do not allocate. Instances are mutable and meant to be
+ * reused by one thread at a time.
+ */
+public final class ParsedUrl {
+
+    CharSequence input;
+    int schemeStart;
+    int schemeEnd;
+    int userInfoStart;
+    int userInfoEnd;
+    int hostStart;
+    int hostEnd;
+    int port;
+    int pathStart;
+    int pathEnd;
+    int queryStart;
+    int queryEnd;
+    int fragmentStart;
+    int fragmentEnd;
+
+    public ParsedUrl() {
+        reset(null);
+    }
+
+    void reset(CharSequence newInput) {
+        input = newInput;
+        schemeStart = schemeEnd = -1;
+        userInfoStart = userInfoEnd = -1;
+        hostStart = hostEnd = -1;
+        port = -1;
+        pathStart = pathEnd = -1;
+        queryStart = queryEnd = -1;
+        fragmentStart = fragmentEnd = -1;
+    }
+
+    /**
+     * @return The parsed input
+     */
+    public CharSequence getInput() {
+        return input;
+    }
+
+    public boolean hasScheme() {
+        return schemeStart >= 0;
+    }
+
+    public boolean hasUserInfo() {
+        return userInfoStart >= 0;
+    }
+
+    public boolean hasPort() {
+        return port >= 0;
+    }
+
+    public boolean hasQuery() {
+        return queryStart >= 0;
+    }
+
+    public boolean hasFragment() {
+        return fragmentStart >= 0;
+    }
+
+    public int getSchemeStart() {
+        return schemeStart;
+    }
+
+    public int getSchemeEnd() {
+        return schemeEnd;
+    }
+
+    public int getHostStart() {
+        return hostStart;
+    }
+
+    public int getHostEnd() {
+        return hostEnd;
+    }
+
+    public int getPathStart() {
+        return pathStart;
+    }
+
+    public int getPathEnd() {
+        return pathEnd;
+    }
+
+    public int getQueryStart() {
+        return queryStart;
+    }
+
+    public int getQueryEnd() {
+        return queryEnd;
+    }
+
+    public int getFragmentStart() {
+        return fragmentStart;
+    }
+
+    public int getFragmentEnd() {
+        return fragmentEnd;
+    }
+
+    /**
+     * @return Explicit port, or -1 if the URL has none
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * @return Explicit port, else the scheme default (80 for http or no scheme, 443 for https, 554 for rtsp), else -1
+     */
+    public int getEffectivePort() {
+        return port >= 0 ? port : UrlParser.defaultPort(this);
+    }
+
+    /**
+     * Compare the scheme case-insensitively without allocating
+     * @param scheme Lowercase scheme, e.g. "https"
+     * @return true if the URL has this scheme
+     */
+    public boolean schemeEquals(@NonNull String scheme) {
+        return rangeEqualsIgnoreCase(schemeStart, schemeEnd, scheme);
+    }
+
+    /**
+     * Compare the host case-insensitively without allocating
+     * @param host Lowercase host, e.g. "example.com"
+     * @return true if the URL has this host
+     */
+    public boolean hostEquals(@NonNull String host) {
+        return rangeEqualsIgnoreCase(hostStart, hostEnd, host);
+    }
+
+    @Nullable
+    public String getScheme() {
+        return substring(schemeStart, schemeEnd);
+    }
+
+    @Nullable
+    public String getUserInfo() {
+        return substring(userInfoStart, userInfoEnd);
+    }
+
+    @Nullable
+    public String getHost() {
+        return substring(hostStart, hostEnd);
+    }
+
+    /**
+     * @return Path, "" if the URL has none
+     */
+    @Nullable
+    public String getPath() {
+        return substring(pathStart, pathEnd);
+    }
+
+    /**
+     * @return Query without the leading '?', or null if the URL has none
+     */
+    @Nullable
+    public String getQuery() {
+        return substring(queryStart, queryEnd);
+    }
+
+    /**
+     * @return Fragment without the leading '#', or null if the URL has none
+     */
+    @Nullable
+    public String getFragment() {
+        return substring(fragmentStart, fragmentEnd);
+    }
+
+    private String substring(int start, int end) {
+        if (input == null || start < 0) return null;
+        return input.subSequence(start, end).toString();
+    }
+
+    private boolean rangeEqualsIgnoreCase(int start, int end, String expected) {
+        if (input == null || start < 0 || end - start != expected.length()) return false;
+
+        for (int i = 0; i < expected.length(); i++) {
+            char c = input.charAt(start + i);
+            if (c >= 'A' && c <= 'Z') c += 'a' - 'A';
+            if (c != expected.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "ParsedUrl{scheme=" + getScheme() + ", host=" + getHost() + ", port=" + port
+                + ", path=" + getPath() + ", query=" + getQuery() + ", fragment=" + getFragment() + "}";
+    }
+}
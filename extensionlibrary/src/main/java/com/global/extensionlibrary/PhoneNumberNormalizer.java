@@ -0,0 +1,370 @@
+package com.global.extensionlibrary;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Offline E.164 phone number normalizer for contact sync and deduplication.
+ *
+ * Formatting characters are stripped, international and national trunk prefixes are resolved
+ * and the country calling code is matched against a compact digit trie built from bundled ITU
+ * data on first use. This is structural normalization only: beyond the national number length
+ * of a few fixed-length plans (e.g. NANP) it does not know per-country numbering plans, so it
+ * will not reject every number a full phone library would.
+ *
+ * Instances are immutable and thread-safe.
+ */
+public final class PhoneNumberNormalizer {
+
+    /** Minimum size of the buffer passed to {@link #normalize(CharSequence, char[])} */
+    public static final int BUFFER_SIZE = 24;
+
+    private static final int MAX_E164_DIGITS = 15;
+    private static final int MIN_NATIONAL_DIGITS = 4;
+
+    /**
+     * ITU-T E.164 assigned country calling codes. Codes are prefix-free, so a trie walk
+     * stops at the first terminal node.
+     */
+    private static final String CALLING_CODES =
+            "1,7,20,27,30,31,32,33,34,36,39,40,41,43,44,45,46,47,48,49,51,52,53,54,55,56,57,58,"
+            + "60,61,62,63,64,65,66,81,82,84,86,90,91,92,93,94,95,98,"
+            + "211,212,213,216,218,220,221,222,223,224,225,226,227,228,229,230,231,232,233,234,235,"
+            + "236,237,238,239,240,241,242,243,244,245,246,247,248,249,250,251,252,253,254,255,256,"
+            + "257,258,260,261,262,263,264,265,266,267,268,269,290,291,297,298,299,"
+            + "350,351,352,353,354,355,356,357,358,359,370,371,372,373,374,375,376,377,378,379,380,"
+            + "381,382,383,385,386,387,389,420,421,423,"
+            + "500,501,502,503,504,505,506,507,508,509,590,591,592,593,594,595,596,597,598,599,"
+            + "670,672,673,674,675,676,677,678,679,680,681,682,683,685,686,687,688,689,690,691,692,"
+            + "800,808,850,852,853,855,856,870,878,880,881,882,883,886,888,"
+            + "960,961,962,963,964,965,966,967,968,970,971,972,973,974,975,976,977,979,"
+            + "992,993,994,995,996,998";
+
+    /**
+     * National significant number lengths as "callingCode:min:max" for plans with a fixed length.
+     * A short local number (e.g. "555-1234" without area code) cannot be completed to E.164 and
+     * is rejected instead of producing a bogus key. Other codes accept 4-14 digits.
+     */
+    private static final String NATIONAL_LENGTHS = "1:10:10,7:10:10,33:9:9,91:10:10";
+
+    /**
+     * Region dialing rules as "REGION:callingCode[:trunkPrefix[:internationalPrefix]]".
+     * Trunk prefix defaults to "0" (empty means none), international prefix defaults to "00".
+     */
+    private static final String[] REGIONS = {
+            "US:1:1:011", "CA:1:1:011", "PR:1:1:011", "GU:1:1:011", "JM:1:1:011", "BS:1:1:011",
+            "TT:1:1:011", "DO:1:1:011", "BB:1:1:011",
+            "RU:7:8:810", "KZ:7:8:810",
+            "EG:20", "ZA:27", "GR:30:", "NL:31", "BE:32", "FR:33", "ES:34:", "HU:36:06",
+            "IT:39:", "SM:378:", "VA:39:", "RO:40", "CH:41", "AT:43", "GB:44", "DK:45:", "SE:46",
+            "NO:47:", "PL:48:", "DE:49", "PE:51", "MX:52:", "CU:53:0:119", "AR:54", "BR:55",
+            "CL:56:", "CO:57:", "VE:58", "MY:60", "AU:61:0:0011", "ID:62:0:001", "PH:63",
+            "NZ:64", "SG:65::000", "TH:66:0:001", "JP:81:0:010", "KR:82:0:001", "VN:84",
+            "CN:86", "TR:90", "IN:91", "PK:92", "AF:93", "LK:94", "MM:95", "IR:98",
+            "MA:212", "DZ:213", "TN:216:", "LY:218", "SN:221:", "CI:225:", "GH:233", "NG:234",
+            "CM:237:", "KE:254", "TZ:255", "UG:256", "ET:251", "ZM:260", "ZW:263",
+            "PT:351:", "LU:352:", "IE:353", "IS:354:", "AL:355", "MT:356:", "CY:357:",
+            "FI:358:0:00", "BG:359", "LT:370:8", "LV:371:", "EE:372:", "MD:373", "AM:374",
+            "BY:375:8:810", "UA:380", "RS:381", "ME:382", "HR:385", "SI:386", "BA:387",
+            "MK:389", "CZ:420:", "SK:421", "LI:423:",
+            "GT:502:", "SV:503:", "HN:504:", "NI:505:", "CR:506:", "PA:507:", "BO:591",
+            "EC:593", "PY:595", "UY:598",
+            "HK:852::001", "MO:853:", "KH:855", "BD:880", "TW:886:0:002",
+            "LB:961", "JO:962", "IQ:964", "KW:965:", "SA:966", "OM:968:", "IL:972",
+            "AE:971", "BH:973:", "QA:974:", "NP:977", "GE:995", "UZ:998:8:810"
+    };
+
+    /** Accepts international numbers only, see {@link #forUnknownRegion()} */
+    private static final PhoneNumberNormalizer UNKNOWN_REGION = new PhoneNumberNormalizer(0, "", "00");
+
+    private final int callingCode;
+    private final char[] callingCodeDigits;
+    private final char[] trunkPrefix;
+    private final char[] internationalPrefix;
+
+    private final ThreadLocal<char[]> bulkBuffer = new ThreadLocal<char[]>() {
+        @Override
+        protected char[] initialValue() {
+            return new char[BUFFER_SIZE];
+        }
+    };
+
+    private PhoneNumberNormalizer(int callingCode, String trunkPrefix, String internationalPrefix) {
+        this.callingCode = callingCode;
+        this.callingCodeDigits = callingCode > 0 ? Integer.toString(callingCode).toCharArray() : new char[0];
+        this.trunkPrefix = trunkPrefix.toCharArray();
+        this.internationalPrefix = internationalPrefix.toCharArray();
+    }
+
+    /**
+     * Create a normalizer for a region, e.g. from TelephonyManager.getSimCountryIso()
+     * @param regionCode ISO 3166-1 alpha-2 region code, case-insensitive
+     * @return Normalizer or null if the region is not in the bundled table
+     */
+    @Nullable
+    public static PhoneNumberNormalizer forRegion(String regionCode) {
+        if (regionCode == null) return null;
+
+        return Data.REGION_NORMALIZERS.get(regionCode.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Get a normalizer for when the region is unknown (e.g. no SIM) or not in the bundled table.
+     * Numbers starting with "+" or "00" are normalized; national numbers cannot be completed and are rejected.
+     * @return Normalizer with calling code 0
+     */
+    @NonNull
+    public static PhoneNumberNormalizer forUnknownRegion() {
+        return UNKNOWN_REGION;
+    }
+
+    /**
+     * Create a normalizer for any calling code, using "0" as trunk prefix and "00" as international prefix
+     * @param callingCode Country calling code used for national numbers (e.g. 44)
+     * @return Normalizer
+     * @throws IllegalArgumentException if the calling code is not assigned
+     */
+    @NonNull
+    public static PhoneNumberNormalizer forCallingCode(int callingCode) {
+        return forCallingCode(callingCode, "0", "00");
+    }
+
+    /**
+     * Create a normalizer with explicit dialing rules
+     * @param callingCode Country calling code used for national numbers
+     * @param trunkPrefix National trunk prefix to strip (e.g. "0"), or "" for none
+     * @param internationalPrefix International call prefix (e.g. "00" or "011")
+     * @return Normalizer
+     * @throws IllegalArgumentException if the calling code is not assigned
+     */
+    @NonNull
+    public static PhoneNumberNormalizer forCallingCode(int callingCode, @NonNull String trunkPrefix,
+                                                      @NonNull String internationalPrefix) {
+        char[] digits = Integer.toString(callingCode).toCharArray();
+        if (callingCode <= 0 || Data.matchCallingCode(digits, 0, digits.length) != digits.length) {
+            throw new IllegalArgumentException("Unknown country calling code: " + callingCode);
+        }
+        return new PhoneNumberNormalizer(callingCode, trunkPrefix, internationalPrefix);
+    }
+
+    /**
+     * Get the calling code applied to national numbers
+     * @return Country calling code, or 0 for {@link #forUnknownRegion()}
+     */
+    public int getCallingCode() {
+        return callingCode;
+    }
+
+    /**
+     * Normalize a phone number to E.164 into a caller-supplied buffer without allocating
+     * @param input Phone number in any common format (spaces, dashes, dots, brackets, slashes)
+     * @param out Buffer of at least BUFFER_SIZE chars; on success holds "+" followed by digits
+     * @return Number of chars written to out, or -1 if the input is not a plausible phone number
+     */
+    public int normalize(CharSequence input, @NonNull char[] out) {
+        if (out.length < BUFFER_SIZE) {
+            throw new IllegalArgumentException("Buffer must hold at least " + BUFFER_SIZE + " chars");
+        }
+        if (input == null) return -1;
+
+        // Collect digits into out[1..], remembering whether the number started with '+' and
+        // where a bracketed "(0)" was, since it can only be judged once the prefix is known
+        int length = input.length();
+        int count = 1;
+        int bracketedZero = -1;
+        boolean plus = false;
+        boolean seenDigit = false;
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            if (c == '+' || c == '\uFF0B') {
+                if (seenDigit || plus) return -1;
+                plus = true;
+            } else if (c == '(' && seenDigit && bracketedZero < 0 && i + 2 < length
+                    && input.charAt(i + 1) == '0' && input.charAt(i + 2) == ')') {
+                if (count == BUFFER_SIZE) return -1;
+                bracketedZero = count;
+                out[count++] = '0';
+                i += 2;
+            } else if (Character.isDigit(c)) {
+                if (count == BUFFER_SIZE) return -1;
+                out[count++] = (char) ('0' + Character.digit(c, 10));
+                seenDigit = true;
+            } else if (isExtensionMarker(c)) {
+                if (!seenDigit) return -1;
+                break;
+            } else if (!isFormatting(c)) {
+                return -1;
+            }
+        }
+        int digits = count - 1;
+        if (digits == 0) return -1;
+
+        if (!plus && startsWith(out, 1, digits, internationalPrefix)) {
+            digits = removePrefix(out, digits, internationalPrefix.length);
+            bracketedZero -= internationalPrefix.length;
+            plus = true;
+        }
+
+        if (plus) {
+            int codeLength = Data.matchCallingCode(out, 1, digits);
+            if (codeLength <= 0) return -1;
+            if (bracketedZero == 1 + codeLength) {
+                // "+44 (0)20 ..." style: the bracketed trunk prefix is not dialled internationally
+                System.arraycopy(out, bracketedZero + 1, out, bracketedZero, digits - codeLength - 1);
+                digits--;
+            }
+            return finish(out, codeLength, digits);
+        }
+
+        int codeLength = callingCodeDigits.length;
+        if (codeLength == 0) return -1;
+        if (startsWith(out, 1, digits, trunkPrefix)) {
+            digits = removePrefix(out, digits, trunkPrefix.length);
+        }
+        if (digits + codeLength > MAX_E164_DIGITS) return -1;
+        System.arraycopy(out, 1, out, 1 + codeLength, digits);
+        System.arraycopy(callingCodeDigits, 0, out, 1, codeLength);
+        return finish(out, codeLength, digits + codeLength);
+    }
+
+    /**
+     * Normalize a phone number to E.164
+     * @param input Phone number in any common format
+     * @return E.164 string (e.g. "+14155551234") or null if the input is not a plausible phone number
+     */
+    @Nullable
+    public String normalize(CharSequence input) {
+        char[] buffer = bulkBuffer.get();
+        int length = normalize(input, buffer);
+        return length < 0 ? null : new String(buffer, 0, length);
+    }
+
+    /**
+     * Normalize many phone numbers in parallel, e.g. a whole address book
+     * @param inputs Phone numbers in any common format
+     * @return Array aligned with inputs holding E.164 strings, or null where an input is invalid
+     */
+    @NonNull
+    public String[] normalizeAll(@NonNull final List<? extends CharSequence> inputs) {
+        final String[] results = new String[inputs.size()];
+        IntStream.range(0, results.length).parallel().forEach(i -> results[i] = normalize(inputs.get(i)));
+        return results;
+    }
+
+    private static int finish(char[] out, int codeLength, int digits) {
+        int national = digits - codeLength;
+        if (national < MIN_NATIONAL_DIGITS || digits > MAX_E164_DIGITS) return -1;
+
+        int code = 0;
+        for (int i = 1; i <= codeLength; i++) {
+            code = code * 10 + (out[i] - '0');
+        }
+        if (national < Data.NATIONAL_MIN[code] || national > Data.NATIONAL_MAX[code]) return -1;
+
+        out[0] = '+';
+        return digits + 1;
+    }
+
+    private static boolean startsWith(char[] digits, int offset, int length, char[] prefix) {
+        if (prefix.length == 0 || prefix.length > length) return false;
+
+        for (int i = 0; i < prefix.length; i++) {
+            if (digits[offset + i] != prefix[i]) return false;
+        }
+        return true;
+    }
+
+    private static int removePrefix(char[] out, int digits, int prefixLength) {
+        System.arraycopy(out, 1 + prefixLength, out, 1, digits - prefixLength);
+        return digits - prefixLength;
+    }
+
+    private static boolean isFormatting(char c) {
+        return c == ' ' || c == '-' || c == '.' || c == '(' || c == ')' || c == '/'
+                || c == '\u00A0' || c == '\u2010' || c == '\u2011' || c == '\u2012' || c == '\u2013'
+                || c == '\u2014' || c == '\u2212' || c == '\u3000';
+    }
+
+    private static boolean isExtensionMarker(char c) {
+        // Extensions, dialer pauses and waits end the number itself
+        return c == 'x' || c == 'X' || c == 'e' || c == 'E' || c == '#' || c == ',' || c == ';';
+    }
+
+    /**
+     * Bundled data, parsed when the normalizer is first used rather than at class load
+     */
+    private static final class Data {
+
+        /** children[node * 10 + digit] = child node index, 0 meaning none (root is node 0) */
+        private static final int[] CHILDREN;
+        private static final boolean[] TERMINAL;
+        private static final Map<String, PhoneNumberNormalizer> REGION_NORMALIZERS = new HashMap<>();
+
+        /** National number length bounds indexed by calling code */
+        private static final byte[] NATIONAL_MIN = new byte[1000];
+        private static final byte[] NATIONAL_MAX = new byte[1000];
+
+        static {
+            String[] codes = CALLING_CODES.split(",");
+            int maxNodes = 1;
+            for (String code : codes) {
+                maxNodes += code.length();
+            }
+            int[] children = new int[maxNodes * 10];
+            boolean[] terminal = new boolean[maxNodes];
+            int nodes = 1;
+            for (String code : codes) {
+                int node = 0;
+                for (int i = 0; i < code.length(); i++) {
+                    int slot = node * 10 + (code.charAt(i) - '0');
+                    if (children[slot] == 0) {
+                        children[slot] = nodes++;
+                    }
+                    node = children[slot];
+                }
+                terminal[node] = true;
+            }
+            CHILDREN = new int[nodes * 10];
+            System.arraycopy(children, 0, CHILDREN, 0, CHILDREN.length);
+            TERMINAL = new boolean[nodes];
+            System.arraycopy(terminal, 0, TERMINAL, 0, nodes);
+
+            Arrays.fill(NATIONAL_MIN, (byte) MIN_NATIONAL_DIGITS);
+            Arrays.fill(NATIONAL_MAX, (byte) (MAX_E164_DIGITS - 1));
+            for (String entry : NATIONAL_LENGTHS.split(",")) {
+                String[] parts = entry.split(":");
+                int code = Integer.parseInt(parts[0]);
+                NATIONAL_MIN[code] = Byte.parseByte(parts[1]);
+                NATIONAL_MAX[code] = Byte.parseByte(parts[2]);
+            }
+
+            for (String region : REGIONS) {
+                String[] parts = region.split(":", -1);
+                String trunk = parts.length > 2 ? parts[2] : "0";
+                String international = parts.length > 3 ? parts[3] : "00";
+                REGION_NORMALIZERS.put(parts[0],
+                        new PhoneNumberNormalizer(Integer.parseInt(parts[1]), trunk, international));
+            }
+        }
+
+        /**
+         * @return Length of the calling code at the start of digits, or -1 if none matches
+         */
+        static int matchCallingCode(char[] digits, int offset, int length) {
+            int node = 0;
+            for (int i = 0; i < length && i < 3; i++) {
+                node = CHILDREN[node * 10 + (digits[offset + i] - '0')];
+                if (node == 0) return -1;
+                if (TERMINAL[node]) return i + 1;
+            }
+            return -1;
+        }
+    }
+}
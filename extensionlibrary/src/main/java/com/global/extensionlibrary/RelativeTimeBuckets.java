@@ -0,0 +1,81 @@
+package com.global.extensionlibrary;
+
+/**
+ * Bucketing and refresh arithmetic behind {@link RelativeTimeFormatter}, kept free of ICU so it
+ * can be unit tested on the JVM.
+ *
+ * Ages under a minute are "now"; otherwise the age is counted in the largest unit below its
+ * limit (minutes under an hour, hours under a day, days under a week, weeks under a month,
+ * months under a year, then years), rounding down.
+ */
+final class RelativeTimeBuckets {
+
+    static final long SECOND = 1000L;
+    static final long MINUTE = 60 * SECOND;
+    static final long HOUR = 60 * MINUTE;
+    static final long DAY = 24 * HOUR;
+    static final long WEEK = 7 * DAY;
+    static final long MONTH = 30 * DAY;
+    static final long YEAR = 365 * DAY;
+
+    static final int UNIT_NOW = -1;
+    static final int UNIT_MINUTES = 0;
+    static final int UNIT_HOURS = 1;
+    static final int UNIT_DAYS = 2;
+    static final int UNIT_WEEKS = 3;
+    static final int UNIT_MONTHS = 4;
+    static final int UNIT_YEARS = 5;
+
+    /** Size of each unit and the age at which the next, coarser unit takes over */
+    static final long[] UNIT_SIZE = {MINUTE, HOUR, DAY, WEEK, MONTH, YEAR};
+    static final long[] UNIT_LIMIT = {HOUR, DAY, WEEK, MONTH, YEAR, Long.MAX_VALUE};
+
+    // Prevent instantiation
+    private RelativeTimeBuckets() {}
+
+    /**
+     * @param age Absolute distance between the time and now in millis
+     * @return UNIT_NOW for less than a minute, else the UNIT_* constant the age is counted in
+     */
+    static int unitFor(long age) {
+        if (age < MINUTE) return UNIT_NOW;
+
+        int unit = UNIT_MINUTES;
+        while (age >= UNIT_LIMIT[unit]) {
+            unit++;
+        }
+        return unit;
+    }
+
+    /**
+     * @param age Absolute distance between the time and now in millis
+     * @param unit Unit returned by unitFor(age), not UNIT_NOW
+     * @return Whole number of units shown in the label
+     */
+    static long countFor(long age, int unit) {
+        return age / UNIT_SIZE[unit];
+    }
+
+    /**
+     * @param timeMillis Epoch millis being described
+     * @param nowMillis Current epoch millis
+     * @return Epoch millis at which the unit or count changes, always after nowMillis
+     */
+    static long nextChangeMillis(long timeMillis, long nowMillis) {
+        long diff = nowMillis - timeMillis;
+        // "now" covers both sides of timeMillis and ends a minute after it
+        if (diff > -MINUTE && diff < MINUTE) return timeMillis + MINUTE;
+
+        if (diff > 0) {
+            int unit = unitFor(diff);
+            long size = UNIT_SIZE[unit];
+            long nextBucket = (diff / size + 1) * size;
+            return timeMillis + Math.min(nextBucket, UNIT_LIMIT[unit]);
+        }
+
+        long remaining = -diff;
+        int unit = unitFor(remaining);
+        // Label drops to the lower count once the remaining time falls below count * size
+        return timeMillis - countFor(remaining, unit) * UNIT_SIZE[unit] + 1;
+    }
+}
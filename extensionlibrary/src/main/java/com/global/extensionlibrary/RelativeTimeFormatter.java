@@ -0,0 +1,150 @@
+package com.global.extensionlibrary;
+
+import android.icu.text.DisplayContext;
+import android.icu.text.RelativeDateTimeFormatter;
+import android.icu.util.ULocale;
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cached "5 min ago" / "in 2 hours" formatter for list binding.
+ *
+ * Times are bucketed (now, minutes, hours, days, weeks, months, years) and the localized label
+ * for each bucket is built once per locale and reused, so binding a row allocates nothing once
+ * the cache is warm. {@link #getNextChangeMillis(long, long)} tells an adapter when the label
+ * will change, so it can schedule a single refresh instead of rebinding on a timer.
+ */
+public final class RelativeTimeFormatter {
+
+    /** Indexed by the RelativeTimeBuckets UNIT_* constants */
+    private static final RelativeDateTimeFormatter.RelativeUnit[] ICU_UNITS = {
+            RelativeDateTimeFormatter.RelativeUnit.MINUTES,
+            RelativeDateTimeFormatter.RelativeUnit.HOURS,
+            RelativeDateTimeFormatter.RelativeUnit.DAYS,
+            RelativeDateTimeFormatter.RelativeUnit.WEEKS,
+            RelativeDateTimeFormatter.RelativeUnit.MONTHS,
+            RelativeDateTimeFormatter.RelativeUnit.YEARS
+    };
+
+    /** Year labels beyond this count are formatted on demand instead of cached */
+    private static final int MAX_CACHED_YEARS = 100;
+
+    /** Keyed by Locale, whose hashCode is cached, so a lookup does not allocate */
+    private static final ConcurrentHashMap<Locale, RelativeTimeFormatter> SHORT_INSTANCES = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Locale, RelativeTimeFormatter> LONG_INSTANCES = new ConcurrentHashMap<>();
+
+    /** Abbreviated formatter for the default locale, replaced when the default locale changes */
+    private static volatile RelativeTimeFormatter defaultInstance;
+
+    private final Locale locale;
+    private final RelativeDateTimeFormatter formatter;
+    private final String nowLabel;
+    private final String[][] pastLabels = new String[RelativeTimeBuckets.UNIT_SIZE.length][];
+    private final String[][] futureLabels = new String[RelativeTimeBuckets.UNIT_SIZE.length][];
+
+    private RelativeTimeFormatter(Locale locale, boolean abbreviated) {
+        this.locale = locale;
+        formatter = RelativeDateTimeFormatter.getInstance(ULocale.forLocale(locale), null,
+                abbreviated ? RelativeDateTimeFormatter.Style.SHORT : RelativeDateTimeFormatter.Style.LONG,
+                DisplayContext.CAPITALIZATION_NONE);
+        nowLabel = formatter.format(RelativeDateTimeFormatter.Direction.PLAIN, RelativeDateTimeFormatter.AbsoluteUnit.NOW);
+        for (int unit = 0; unit < RelativeTimeBuckets.UNIT_SIZE.length; unit++) {
+            int size = unit == RelativeTimeBuckets.UNIT_YEARS ? MAX_CACHED_YEARS + 1
+                    : (int) (RelativeTimeBuckets.UNIT_LIMIT[unit] / RelativeTimeBuckets.UNIT_SIZE[unit]) + 1;
+            pastLabels[unit] = new String[size];
+            futureLabels[unit] = new String[size];
+        }
+    }
+
+    /**
+     * Get the shared formatter for the default locale
+     * @return Formatter with abbreviated labels (e.g. "5 min. ago")
+     */
+    @NonNull
+    public static RelativeTimeFormatter getInstance() {
+        Locale locale = Locale.getDefault();
+        RelativeTimeFormatter instance = defaultInstance;
+        if (instance == null || !instance.locale.equals(locale)) {
+            instance = getInstance(locale, true);
+            defaultInstance = instance;
+        }
+        return instance;
+    }
+
+    /**
+     * Get the shared formatter for a locale
+     * @param locale Locale for the labels
+     * @param abbreviated true for short labels ("5 min. ago"), false for long ones ("5 minutes ago")
+     * @return Formatter
+     */
+    @NonNull
+    public static RelativeTimeFormatter getInstance(@NonNull Locale locale, boolean abbreviated) {
+        ConcurrentHashMap<Locale, RelativeTimeFormatter> instances = abbreviated ? SHORT_INSTANCES : LONG_INSTANCES;
+        RelativeTimeFormatter instance = instances.get(locale);
+        if (instance == null) {
+            instance = new RelativeTimeFormatter(locale, abbreviated);
+            RelativeTimeFormatter existing = instances.putIfAbsent(locale, instance);
+            if (existing != null) instance = existing;
+        }
+        return instance;
+    }
+
+    /**
+     * Format a time relative to now, e.g. "5 min. ago" or "in 2 hr."
+     * @param timeMillis Epoch millis to describe
+     * @param nowMillis Current epoch millis, e.g. System.currentTimeMillis()
+     * @return Cached label; times less than a minute away are "now"
+     */
+    @NonNull
+    public String format(long timeMillis, long nowMillis) {
+        long diff = nowMillis - timeMillis;
+        boolean future = diff < 0;
+        long age = future ? -diff : diff;
+        int unit = RelativeTimeBuckets.unitFor(age);
+        if (unit == RelativeTimeBuckets.UNIT_NOW) return nowLabel;
+
+        long count = RelativeTimeBuckets.countFor(age, unit);
+        String[] labels = future ? futureLabels[unit] : pastLabels[unit];
+        if (count >= labels.length) {
+            return formatUncached(count, unit, future);
+        }
+        String label = labels[(int) count];
+        if (label == null) {
+            // Racing threads produce equal strings, so an unsynchronized publish is harmless
+            label = formatUncached(count, unit, future);
+            labels[(int) count] = label;
+        }
+        return label;
+    }
+
+    /**
+     * Get the time at which format(timeMillis, now) will return a different label
+     * @param timeMillis Epoch millis being described
+     * @param nowMillis Current epoch millis
+     * @return Epoch millis of the next label change, always after nowMillis
+     */
+    public long getNextChangeMillis(long timeMillis, long nowMillis) {
+        return RelativeTimeBuckets.nextChangeMillis(timeMillis, nowMillis);
+    }
+
+    /**
+     * Get the delay until the label changes, e.g. for Handler.postDelayed
+     * @param timeMillis Epoch millis being described
+     * @param nowMillis Current epoch millis
+     * @return Delay in millis, always positive
+     */
+    public long getMillisUntilNextChange(long timeMillis, long nowMillis) {
+        return getNextChangeMillis(timeMillis, nowMillis) - nowMillis;
+    }
+
+    private String formatUncached(long count, int unit, boolean future) {
+        synchronized (formatter) {
+            return formatter.format(count,
+                    future ? RelativeDateTimeFormatter.Direction.NEXT : RelativeDateTimeFormatter.Direction.LAST,
+                    ICU_UNITS[unit]);
+        }
+    }
+}
@@ -0,0 +1,447 @@
+package com.global.extensionlibrary;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Single-pass URL parser and normalizer for link-heavy screens.
+ *
+ * {@link #parse(CharSequence, ParsedUrl)} records component offsets without creating substrings.
+ * {@link #normalize(String)} builds a canonical form for cache keys and keeps recently seen
+ * results in an LRU cache. {@link #isValid(String)} only parses, so it neither allocates nor
+ * touches that cache.
+ *
+ * Web URLs use http, https or rtsp, or no scheme at all (e.g. "example.com/path").
+ */
+public class UrlParser {
+
+    private static final int CACHE_SIZE = 512;
+
+    /** Cached marker for inputs that failed to parse */
+    private static final String INVALID = "";
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    /** Access-ordered, so the eldest entry is the least recently used one; guarded by itself */
+    private static final LinkedHashMap<String, String> NORMALIZED_CACHE = new LinkedHashMap<String, String>(CACHE_SIZE * 4 / 3 + 1, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private static final ThreadLocal<ParsedUrl> PARSED = new ThreadLocal<ParsedUrl>() {
+        @Override
+        protected ParsedUrl initialValue() {
+            return new ParsedUrl();
+        }
+    };
+
+    private static final ThreadLocal<StringBuilder> BUILDER = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(128);
+        }
+    };
+
+    // Prevent instantiation
+    private UrlParser() {}
+
+    /**
+     * Parse a URL into offset-based components without allocating
+     * @param input URL, with or without scheme
+     * @param out Result to fill; reset even when parsing fails
+     * @return true if the input is a well-formed URL with a valid host, false otherwise
+     */
+    public static boolean parse(CharSequence input, @NonNull ParsedUrl out) {
+        out.reset(input);
+        if (input == null) return false;
+
+        int start = 0;
+        int end = input.length();
+        while (start < end && input.charAt(start) <= ' ') start++;
+        while (end > start && input.charAt(end - 1) <= ' ') end--;
+        if (start == end) return false;
+
+        // Scheme: ALPHA *(ALPHA / DIGIT / "+" / "-" / ".") followed by "://"
+        int p = start;
+        if (isAlpha(input.charAt(p))) {
+            int i = p + 1;
+            while (i < end && isSchemeChar(input.charAt(i))) i++;
+            if (i + 2 < end && input.charAt(i) == ':' && input.charAt(i + 1) == '/' && input.charAt(i + 2) == '/') {
+                out.schemeStart = p;
+                out.schemeEnd = i;
+                p = i + 3;
+            }
+        }
+        if (!out.hasScheme() && p + 1 < end && input.charAt(p) == '/' && input.charAt(p + 1) == '/') {
+            // Protocol-relative "//host/path"
+            p += 2;
+        }
+
+        // Authority runs up to the first '/', '?' or '#'; userinfo ends at its last '@'
+        int authorityEnd = p;
+        int at = -1;
+        while (authorityEnd < end) {
+            char c = input.charAt(authorityEnd);
+            if (c == '/' || c == '?' || c == '#') break;
+            if (c == '@') at = authorityEnd;
+            authorityEnd++;
+        }
+        if (at >= 0) {
+            // Without a scheme "user@host" is far more likely an email address than a URL
+            if (!out.hasScheme()) return false;
+            out.userInfoStart = p;
+            out.userInfoEnd = at;
+            p = at + 1;
+        }
+
+        int hostEnd;
+        if (p < authorityEnd && input.charAt(p) == '[') {
+            int close = p + 1;
+            while (close < authorityEnd && input.charAt(close) != ']') close++;
+            if (close == authorityEnd) return false;
+            hostEnd = close + 1;
+            if (hostEnd < authorityEnd && input.charAt(hostEnd) != ':') return false;
+        } else {
+            hostEnd = p;
+            while (hostEnd < authorityEnd && input.charAt(hostEnd) != ':') hostEnd++;
+        }
+        out.hostStart = p;
+        out.hostEnd = hostEnd;
+
+        if (hostEnd < authorityEnd) {
+            // An empty port ("host:") is allowed and means the default
+            if (hostEnd + 1 < authorityEnd) {
+                int port = 0;
+                for (int i = hostEnd + 1; i < authorityEnd; i++) {
+                    char c = input.charAt(i);
+                    if (c < '0' || c > '9') return false;
+                    port = port * 10 + (c - '0');
+                    if (port > 65535) return false;
+                }
+                out.port = port;
+            }
+        }
+
+        // Path, query and fragment
+        int i = authorityEnd;
+        out.pathStart = i;
+        while (i < end && input.charAt(i) != '?' && input.charAt(i) != '#') {
+            if (isIllegal(input.charAt(i))) return false;
+            i++;
+        }
+        out.pathEnd = i;
+        if (i < end && input.charAt(i) == '?') {
+            out.queryStart = ++i;
+            while (i < end && input.charAt(i) != '#') {
+                if (isIllegal(input.charAt(i))) return false;
+                i++;
+            }
+            out.queryEnd = i;
+        }
+        if (i < end) {
+            out.fragmentStart = ++i;
+            while (i < end) {
+                if (isIllegal(input.charAt(i))) return false;
+                i++;
+            }
+            out.fragmentEnd = i;
+        }
+
+        return isValidHost(input, out.hostStart, out.hostEnd);
+    }
+
+    /**
+     * Check if a URL starts with an http, https or rtsp scheme, without parsing the rest of it
+     * @param input URL, leading whitespace is ignored
+     * @return true if the scheme is http, https or rtsp (any case), false if it is missing or another scheme
+     */
+    public static boolean hasWebScheme(CharSequence input) {
+        if (input == null) return false;
+
+        int start = 0;
+        int end = input.length();
+        while (start < end && input.charAt(start) <= ' ') start++;
+        int schemeEnd = start;
+        while (schemeEnd < end && isSchemeChar(input.charAt(schemeEnd))) schemeEnd++;
+        if (schemeEnd + 2 >= end || input.charAt(schemeEnd) != ':'
+                || input.charAt(schemeEnd + 1) != '/' || input.charAt(schemeEnd + 2) != '/') {
+            return false;
+        }
+        return rangeEqualsIgnoreCase(input, start, schemeEnd, "http")
+                || rangeEqualsIgnoreCase(input, start, schemeEnd, "https")
+                || rangeEqualsIgnoreCase(input, start, schemeEnd, "rtsp");
+    }
+
+    /**
+     * Check if a string is a valid web URL (http, https, rtsp, or no scheme)
+     * @param url URL to check
+     * @return true if valid, false otherwise
+     */
+    public static boolean isValid(String url) {
+        // Parse only: building a key and caching it would churn the normalize cache
+        ParsedUrl parsed = PARSED.get();
+        boolean valid = parse(url, parsed) && isWebScheme(parsed);
+        parsed.reset(null);
+        return valid;
+    }
+
+    /**
+     * Normalize a web URL for use as a cache key: lowercase scheme and host, "http" for a missing
+     * scheme, default ports removed, "/" for an empty path, percent-encoding made uniform
+     * (unreserved characters decoded, hex digits uppercased, unsafe characters encoded) and
+     * the fragment dropped. Dot segments and query parameter order are left as they are.
+     * @param url URL to normalize
+     * @return Normalized URL, or null if the URL is not a valid web URL
+     */
+    @Nullable
+    public static String normalize(String url) {
+        if (url == null || url.isEmpty()) return null;
+
+        String cached;
+        synchronized (NORMALIZED_CACHE) {
+            cached = NORMALIZED_CACHE.get(url);
+        }
+        if (cached == null) {
+            ParsedUrl parsed = PARSED.get();
+            cached = parse(url, parsed) && isWebScheme(parsed) ? buildNormalized(parsed) : INVALID;
+            parsed.reset(null);
+            synchronized (NORMALIZED_CACHE) {
+                NORMALIZED_CACHE.put(url, cached);
+            }
+        }
+        return cached == INVALID ? null : cached;
+    }
+
+    /**
+     * Clear the cache of recently normalized URLs
+     */
+    public static void clearCache() {
+        synchronized (NORMALIZED_CACHE) {
+            NORMALIZED_CACHE.clear();
+        }
+    }
+
+    private static boolean isWebScheme(ParsedUrl parsed) {
+        return !parsed.hasScheme() || parsed.schemeEquals("http") || parsed.schemeEquals("https")
+                || parsed.schemeEquals("rtsp");
+    }
+
+    private static String buildNormalized(ParsedUrl parsed) {
+        CharSequence input = parsed.input;
+        StringBuilder sb = BUILDER.get();
+        sb.setLength(0);
+
+        if (parsed.hasScheme()) {
+            appendLowerCase(sb, input, parsed.schemeStart, parsed.schemeEnd);
+        } else {
+            sb.append("http");
+        }
+        sb.append("://");
+
+        if (parsed.hasUserInfo()) {
+            appendNormalizedEncoding(sb, input, parsed.userInfoStart, parsed.userInfoEnd);
+            sb.append('@');
+        }
+
+        int hostEnd = parsed.hostEnd;
+        if (input.charAt(hostEnd - 1) == '.') hostEnd--;
+        appendLowerCase(sb, input, parsed.hostStart, hostEnd);
+
+        if (parsed.hasPort() && parsed.port != defaultPort(parsed)) {
+            sb.append(':').append(parsed.port);
+        }
+
+        if (parsed.pathStart == parsed.pathEnd) {
+            sb.append('/');
+        } else {
+            appendNormalizedEncoding(sb, input, parsed.pathStart, parsed.pathEnd);
+        }
+
+        if (parsed.hasQuery()) {
+            sb.append('?');
+            appendNormalizedEncoding(sb, input, parsed.queryStart, parsed.queryEnd);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Default port of a parsed URL's scheme, shared with {@link ParsedUrl#getEffectivePort()}
+     * @param parsed Parsed URL
+     * @return 80 for http or no scheme, 443 for https, 554 for rtsp, else -1
+     */
+    static int defaultPort(ParsedUrl parsed) {
+        if (!parsed.hasScheme() || parsed.schemeEquals("http")) return 80;
+        if (parsed.schemeEquals("https")) return 443;
+        if (parsed.schemeEquals("rtsp")) return 554;
+        return -1;
+    }
+
+    private static void appendLowerCase(StringBuilder sb, CharSequence input, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            sb.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+        }
+    }
+
+    private static void appendNormalizedEncoding(StringBuilder sb, CharSequence input, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if (c == '%') {
+                int high = i + 2 < end ? hexValue(input.charAt(i + 1)) : -1;
+                int low = high >= 0 ? hexValue(input.charAt(i + 2)) : -1;
+                if (low < 0) {
+                    // Stray '%' that does not start an escape
+                    sb.append("%25");
+                    continue;
+                }
+                int value = (high << 4) | low;
+                if (isUnreserved((char) value)) {
+                    sb.append((char) value);
+                } else {
+                    appendEscaped(sb, value);
+                }
+                i += 2;
+            } else if (c < 0x80) {
+                if (c <= ' ' || c == 0x7F || c == '"' || c == '<' || c == '>' || c == '\\'
+                        || c == '^' || c == '`' || c == '{' || c == '|' || c == '}') {
+                    appendEscaped(sb, c);
+                } else {
+                    sb.append(c);
+                }
+            } else {
+                int codePoint = c;
+                if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(input.charAt(i + 1))) {
+                    codePoint = Character.toCodePoint(c, input.charAt(++i));
+                } else if (Character.isSurrogate(c)) {
+                    codePoint = 0xFFFD;
+                }
+                appendUtf8Escaped(sb, codePoint);
+            }
+        }
+    }
+
+    private static void appendUtf8Escaped(StringBuilder sb, int codePoint) {
+        if (codePoint < 0x800) {
+            appendEscaped(sb, 0xC0 | (codePoint >> 6));
+            appendEscaped(sb, 0x80 | (codePoint & 0x3F));
+        } else if (codePoint < 0x10000) {
+            appendEscaped(sb, 0xE0 | (codePoint >> 12));
+            appendEscaped(sb, 0x80 | ((codePoint >> 6) & 0x3F));
+            appendEscaped(sb, 0x80 | (codePoint & 0x3F));
+        } else {
+            appendEscaped(sb, 0xF0 | (codePoint >> 18));
+            appendEscaped(sb, 0x80 | ((codePoint >> 12) & 0x3F));
+            appendEscaped(sb, 0x80 | ((codePoint >> 6) & 0x3F));
+            appendEscaped(sb, 0x80 | (codePoint & 0x3F));
+        }
+    }
+
+    private static void appendEscaped(StringBuilder sb, int value) {
+        sb.append('%').append(HEX_DIGITS[(value >> 4) & 0xF]).append(HEX_DIGITS[value & 0xF]);
+    }
+
+    private static boolean isValidHost(CharSequence input, int start, int end) {
+        if (start >= end) return false;
+
+        if (input.charAt(start) == '[') {
+            // IPv6 literal: hex digits, ':' and '.' (embedded IPv4)
+            if (end - start < 4) return false;
+            for (int i = start + 1; i < end - 1; i++) {
+                char c = input.charAt(i);
+                if (hexValue(c) < 0 && c != ':' && c != '.') return false;
+            }
+            return true;
+        }
+
+        if (input.charAt(end - 1) == '.') end--;
+        if (end - start > 253) return false;
+
+        int labelStart = start;
+        int labelCount = 0;
+        for (int i = start; i <= end; i++) {
+            char c = i < end ? input.charAt(i) : '.';
+            if (c == '.') {
+                int labelLength = i - labelStart;
+                if (labelLength == 0 || labelLength > 63) return false;
+                if (input.charAt(labelStart) == '-' || input.charAt(i - 1) == '-') return false;
+                labelCount++;
+                if (i < end) labelStart = i + 1;
+            } else if (!isAlpha(c) && !(c >= '0' && c <= '9') && c != '-' && c != '_' && c < 0x80) {
+                return false;
+            }
+        }
+        if (labelCount == 1) return rangeEqualsIgnoreCase(input, start, end, "localhost");
+
+        // The top-level label must look like a real TLD: letters only (IDN TLDs as "xn--" or
+        // Unicode), at least two of them. Anything else has to be a dotted-quad IPv4 address.
+        if (isTopLevelLabel(input, labelStart, end)) return true;
+        return labelCount == 4 && isIpv4(input, start, end);
+    }
+
+    private static boolean isTopLevelLabel(CharSequence input, int start, int end) {
+        if (end - start < 2) return false;
+        if (end - start > 4 && rangeEqualsIgnoreCase(input, start, start + 4, "xn--")) return true;
+
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if (!isAlpha(c) && c < 0x80) return false;
+        }
+        return true;
+    }
+
+    private static boolean isIpv4(CharSequence input, int start, int end) {
+        int value = 0;
+        int digits = 0;
+        for (int i = start; i <= end; i++) {
+            char c = i < end ? input.charAt(i) : '.';
+            if (c == '.') {
+                if (digits == 0 || value > 255) return false;
+                value = 0;
+                digits = 0;
+            } else if (c >= '0' && c <= '9' && digits < 3) {
+                value = value * 10 + (c - '0');
+                digits++;
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean rangeEqualsIgnoreCase(CharSequence input, int start, int end, String expected) {
+        if (end - start != expected.length()) return false;
+
+        for (int i = 0; i < expected.length(); i++) {
+            if (Character.toLowerCase(input.charAt(start + i)) != expected.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private static boolean isAlpha(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isSchemeChar(char c) {
+        return isAlpha(c) || (c >= '0' && c <= '9') || c == '+' || c == '-' || c == '.';
+    }
+
+    private static boolean isUnreserved(char c) {
+        return isAlpha(c) || (c >= '0' && c <= '9') || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+        return -1;
+    }
+
+    private static boolean isIllegal(char c) {
+        return c <= ' ' || c == 0x7F;
+    }
+}
@@ -0,0 +1,276 @@
+package com.global.extensionlibrary;
+
+import androidx.annotation.NonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Incremental xxHash64 hasher. Not thread-safe; create one per thread or reuse after {@link #reset()}.
+ *
+ * Characters passed to {@link #update(CharSequence)} are hashed as UTF-16LE code units, so the
+ * result matches {@link HashUtils#xxHash64(String)} without any charset encoding step.
+ */
+public final class XxHash64 {
+
+    static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+    static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+    static final long PRIME64_3 = 0x165667B19E3779F9L;
+    static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+    static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+
+    private static final int STRIPE = 32;
+
+    private final long seed;
+    private final byte[] memory = new byte[STRIPE];
+    private int memorySize;
+    private long totalLength;
+    private long v1;
+    private long v2;
+    private long v3;
+    private long v4;
+
+    /**
+     * Create a hasher with seed 0
+     */
+    public XxHash64() {
+        this(0);
+    }
+
+    /**
+     * Create a hasher with the given seed
+     * @param seed Hash seed
+     */
+    public XxHash64(long seed) {
+        this.seed = seed;
+        reset();
+    }
+
+    /**
+     * Reset to the initial state so the hasher can be reused
+     * @return This hasher
+     */
+    @NonNull
+    public XxHash64 reset() {
+        v1 = seed + PRIME64_1 + PRIME64_2;
+        v2 = seed + PRIME64_2;
+        v3 = seed;
+        v4 = seed - PRIME64_1;
+        totalLength = 0;
+        memorySize = 0;
+        return this;
+    }
+
+    /**
+     * Add bytes to the hash
+     * @param data Bytes to add
+     * @return This hasher
+     */
+    @NonNull
+    public XxHash64 update(@NonNull byte[] data) {
+        return update(data, 0, data.length);
+    }
+
+    /**
+     * Add a range of bytes to the hash
+     * @param data Byte array
+     * @param offset Start offset
+     * @param length Number of bytes
+     * @return This hasher
+     */
+    @NonNull
+    public XxHash64 update(@NonNull byte[] data, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > data.length - length) {
+            throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length + ", size=" + data.length);
+        }
+        totalLength += length;
+        int end = offset + length;
+
+        if (memorySize > 0) {
+            int fill = Math.min(STRIPE - memorySize, length);
+            System.arraycopy(data, offset, memory, memorySize, fill);
+            memorySize += fill;
+            offset += fill;
+            if (memorySize < STRIPE) return this;
+            processStripe(memory, 0);
+            memorySize = 0;
+        }
+        while (offset <= end - STRIPE) {
+            processStripe(data, offset);
+            offset += STRIPE;
+        }
+        if (offset < end) {
+            memorySize = end - offset;
+            System.arraycopy(data, offset, memory, 0, memorySize);
+        }
+        return this;
+    }
+
+    /**
+     * Add the remaining bytes of a buffer to the hash. The buffer position is moved to its limit.
+     * @param buffer Heap or direct buffer
+     * @return This hasher
+     */
+    @NonNull
+    public XxHash64 update(@NonNull ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+            return this;
+        }
+
+        ByteBuffer source = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        totalLength += source.remaining();
+        if (memorySize > 0) {
+            int fill = Math.min(STRIPE - memorySize, source.remaining());
+            source.get(memory, memorySize, fill);
+            memorySize += fill;
+            if (memorySize < STRIPE) {
+                buffer.position(buffer.limit());
+                return this;
+            }
+            processStripe(memory, 0);
+            memorySize = 0;
+        }
+        while (source.remaining() >= STRIPE) {
+            v1 = round(v1, source.getLong());
+            v2 = round(v2, source.getLong());
+            v3 = round(v3, source.getLong());
+            v4 = round(v4, source.getLong());
+        }
+        memorySize = source.remaining();
+        source.get(memory, 0, memorySize);
+        buffer.position(buffer.limit());
+        return this;
+    }
+
+    /**
+     * Add characters to the hash as UTF-16LE code units, without encoding them first
+     * @param chars Characters to add
+     * @return This hasher
+     */
+    @NonNull
+    public XxHash64 update(@NonNull CharSequence chars) {
+        int length = chars.length();
+        totalLength += 2L * length;
+        for (int i = 0; i < length; i++) {
+            char c = chars.charAt(i);
+            memory[memorySize++] = (byte) c;
+            if (memorySize == STRIPE) {
+                processStripe(memory, 0);
+                memorySize = 0;
+            }
+            memory[memorySize++] = (byte) (c >>> 8);
+            if (memorySize == STRIPE) {
+                processStripe(memory, 0);
+                memorySize = 0;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Add a long value (8 bytes, little-endian) to the hash
+     * @param value Value to add
+     * @return This hasher
+     */
+    @NonNull
+    public XxHash64 update(long value) {
+        totalLength += 8;
+        for (int i = 0; i < 8; i++) {
+            memory[memorySize++] = (byte) (value >>> (i * 8));
+            if (memorySize == STRIPE) {
+                processStripe(memory, 0);
+                memorySize = 0;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Get the hash of everything added so far. The hasher can keep receiving updates afterwards.
+     * @return 64-bit hash
+     */
+    public long getValue() {
+        long hash;
+        if (totalLength >= STRIPE) {
+            hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            hash = mergeRound(hash, v1);
+            hash = mergeRound(hash, v2);
+            hash = mergeRound(hash, v3);
+            hash = mergeRound(hash, v4);
+        } else {
+            hash = v3 + PRIME64_5;
+        }
+        hash += totalLength;
+        return finish(hash, memory, 0, memorySize);
+    }
+
+    private void processStripe(byte[] data, int offset) {
+        v1 = round(v1, readLongLE(data, offset));
+        v2 = round(v2, readLongLE(data, offset + 8));
+        v3 = round(v3, readLongLE(data, offset + 16));
+        v4 = round(v4, readLongLE(data, offset + 24));
+    }
+
+    static long round(long acc, long input) {
+        acc += input * PRIME64_2;
+        acc = Long.rotateLeft(acc, 31);
+        return acc * PRIME64_1;
+    }
+
+    static long mergeRound(long acc, long value) {
+        acc ^= round(0, value);
+        return acc * PRIME64_1 + PRIME64_4;
+    }
+
+    /**
+     * Mix the trailing (< 32) bytes into the hash and apply the final avalanche
+     */
+    static long finish(long hash, byte[] data, int offset, int length) {
+        int end = offset + length;
+        while (offset <= end - 8) {
+            hash ^= round(0, readLongLE(data, offset));
+            hash = Long.rotateLeft(hash, 27) * PRIME64_1 + PRIME64_4;
+            offset += 8;
+        }
+        if (offset <= end - 4) {
+            hash ^= (readIntLE(data, offset) & 0xFFFFFFFFL) * PRIME64_1;
+            hash = Long.rotateLeft(hash, 23) * PRIME64_2 + PRIME64_3;
+            offset += 4;
+        }
+        while (offset < end) {
+            hash ^= (data[offset] & 0xFFL) * PRIME64_5;
+            hash = Long.rotateLeft(hash, 11) * PRIME64_1;
+            offset++;
+        }
+        return avalanche(hash);
+    }
+
+    static long avalanche(long hash) {
+        hash ^= hash >>> 33;
+        hash *= PRIME64_2;
+        hash ^= hash >>> 29;
+        hash *= PRIME64_3;
+        hash ^= hash >>> 32;
+        return hash;
+    }
+
+    static long readLongLE(byte[] data, int offset) {
+        return (data[offset] & 0xFFL)
+                | ((data[offset + 1] & 0xFFL) << 8)
+                | ((data[offset + 2] & 0xFFL) << 16)
+                | ((data[offset + 3] & 0xFFL) << 24)
+                | ((data[offset + 4] & 0xFFL) << 32)
+                | ((data[offset + 5] & 0xFFL) << 40)
+                | ((data[offset + 6] & 0xFFL) << 48)
+                | ((data[offset + 7] & 0xFFL) << 56);
+    }
+
+    static int readIntLE(byte[] data, int offset) {
+        return (data[offset] & 0xFF)
+                | ((data[offset + 1] & 0xFF) << 8)
+                | ((data[offset + 2] & 0xFF) << 16)
+                | ((data[offset + 3] & 0xFF) << 24);
+    }
+}
@@ -0,0 +1,109 @@
+package com.global.extensionlibrary;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Timing harness for the compression level trade-off on representative payloads.
+ * Prints compressed size and time per level. Skipped unless enabled with -Dbenchmark=true,
+ * e.g. ./gradlew :extensionlibrary:testDebugUnitTest -Dbenchmark=true -Dbenchmark.iterations=50
+ */
+public class CompressionBenchmarkTest {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 5);
+    private static final int[] LEVELS = {1, 3, 6, 9};
+
+    @Before
+    public void setUp() {
+        assumeTrue(Boolean.getBoolean("benchmark"));
+    }
+
+    @Test
+    public void jsonPayload() throws IOException {
+        run("json", jsonPayload(580 * 1024));
+    }
+
+    @Test
+    public void logPayload() throws IOException {
+        run("log", logPayload(256 * 1024));
+    }
+
+    private static void run(String name, byte[] payload) throws IOException {
+        int fastestSize = -1;
+        int smallestSize = -1;
+        for (int level : LEVELS) {
+            byte[] compressed = compress(payload, level);
+            assertArrayEquals(payload, decompress(compressed));
+
+            // Warm up, then time
+            compress(payload, level);
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                compress(payload, level);
+            }
+            long micros = (System.nanoTime() - start) / 1000 / ITERATIONS;
+
+            System.out.println(String.format(Locale.US, "%-4s %4d KB  level %d: %4d KB (%4.1f%%) in %6d us",
+                    name, payload.length / 1024, level, compressed.length / 1024,
+                    100.0 * compressed.length / payload.length, micros));
+            if (level == CompressionUtils.LEVEL_FASTEST) fastestSize = compressed.length;
+            if (level == CompressionUtils.LEVEL_SMALLEST) smallestSize = compressed.length;
+        }
+        assertTrue(smallestSize <= fastestSize);
+    }
+
+    private static byte[] compress(byte[] payload, int level) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 4);
+        CompressionUtils.compress(new ByteArrayInputStream(payload), out, level, CompressionUtils.FORMAT_GZIP);
+        return out.toByteArray();
+    }
+
+    private static byte[] decompress(byte[] compressed) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 4);
+        CompressionUtils.decompress(new ByteArrayInputStream(compressed), out, CompressionUtils.FORMAT_GZIP);
+        return out.toByteArray();
+    }
+
+    private static byte[] jsonPayload(int size) {
+        Random random = new Random(42);
+        String[] names = {"Alice", "Bob", "Carol", "Dave", "Eve", "Mallory", "Trent", "Peggy"};
+        StringBuilder sb = new StringBuilder(size + 256).append('[');
+        for (int i = 0; sb.length() < size; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"id\":").append(100000 + random.nextInt(900000))
+                    .append(",\"name\":\"").append(names[random.nextInt(names.length)])
+                    .append("\",\"email\":\"user").append(random.nextInt(100000)).append("@example.com\"")
+                    .append(",\"score\":").append(random.nextDouble())
+                    .append(",\"active\":").append(random.nextBoolean())
+                    .append(",\"tags\":[\"android\",\"sync\",\"v").append(random.nextInt(20)).append("\"]}");
+        }
+        return sb.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] logPayload(int size) {
+        Random random = new Random(7);
+        String[] levels = {"D", "I", "W", "E"};
+        String[] tags = {"NetworkClient", "SyncAdapter", "ImageLoader", "Database"};
+        StringBuilder sb = new StringBuilder(size + 256);
+        long time = 1700000000000L;
+        while (sb.length() < size) {
+            time += random.nextInt(500);
+            sb.append(time).append(' ').append(levels[random.nextInt(levels.length)]).append('/')
+                    .append(tags[random.nextInt(tags.length)]).append(": request ")
+                    .append(Integer.toHexString(random.nextInt())).append(" completed in ")
+                    .append(random.nextInt(2000)).append(" ms\n");
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
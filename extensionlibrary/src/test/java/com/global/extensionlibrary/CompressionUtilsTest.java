@@ -0,0 +1,247 @@
+package com.global.extensionlibrary;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CompressionUtilsTest {
+
+    private static final byte[] PAYLOAD = payload();
+
+    @Test
+    public void gzipRoundTrip() throws IOException {
+        byte[] compressed = compress(PAYLOAD, CompressionUtils.LEVEL_DEFAULT, CompressionUtils.FORMAT_GZIP);
+
+        assertEquals(0x1f, compressed[0] & 0xff);
+        assertEquals(0x8b, compressed[1] & 0xff);
+        assertTrue(compressed.length < PAYLOAD.length / 2);
+        assertArrayEquals(PAYLOAD, decompress(compressed, CompressionUtils.FORMAT_GZIP));
+    }
+
+    @Test
+    public void rawDeflateRoundTrip() throws IOException {
+        byte[] compressed = compress(PAYLOAD, CompressionUtils.LEVEL_DEFAULT, CompressionUtils.FORMAT_RAW_DEFLATE);
+
+        assertFalse((compressed[0] & 0xff) == 0x1f && (compressed[1] & 0xff) == 0x8b);
+        assertArrayEquals(PAYLOAD, decompress(compressed, CompressionUtils.FORMAT_RAW_DEFLATE));
+        assertArrayEquals(PAYLOAD, CompressionUtils.decompress(
+                CompressionUtils.compress(PAYLOAD, CompressionUtils.LEVEL_FASTEST, CompressionUtils.FORMAT_RAW_DEFLATE),
+                CompressionUtils.FORMAT_RAW_DEFLATE));
+    }
+
+    @Test
+    public void emptyInputRoundTrip() throws IOException {
+        for (int format : new int[]{CompressionUtils.FORMAT_GZIP, CompressionUtils.FORMAT_RAW_DEFLATE}) {
+            byte[] compressed = compress(new byte[0], CompressionUtils.LEVEL_DEFAULT, format);
+            assertEquals(0, decompress(compressed, format).length);
+        }
+    }
+
+    @Test
+    public void pooledDeflaterTakesNewLevel() throws IOException {
+        // Each call returns its Deflater to the pool, so the next call reuses it at another level
+        for (int level : new int[]{CompressionUtils.LEVEL_SMALLEST, CompressionUtils.LEVEL_FASTEST,
+                CompressionUtils.LEVEL_SMALLEST, CompressionUtils.LEVEL_DEFAULT}) {
+            byte[] compressed = compress(PAYLOAD, level, CompressionUtils.FORMAT_RAW_DEFLATE);
+            assertArrayEquals("level " + level, referenceDeflate(PAYLOAD, level), compressed);
+        }
+    }
+
+    @Test
+    public void writeAfterCloseThrows() throws IOException {
+        OutputStream stream = CompressionUtils.openCompressingStream(new ByteArrayOutputStream(),
+                CompressionUtils.LEVEL_DEFAULT, CompressionUtils.FORMAT_GZIP);
+        stream.write(PAYLOAD, 0, 100);
+        stream.close();
+        // Closing again is harmless
+        stream.close();
+
+        try {
+            stream.write(PAYLOAD, 0, 100);
+            fail("Expected IOException");
+        } catch (IOException expected) {
+            assertEquals("Stream closed", expected.getMessage());
+        }
+        try {
+            stream.flush();
+            fail("Expected IOException");
+        } catch (IOException expected) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void closedStreamDoesNotCorruptLaterStreams() throws IOException {
+        OutputStream closed = CompressionUtils.openCompressingStream(new ByteArrayOutputStream(),
+                CompressionUtils.LEVEL_DEFAULT, CompressionUtils.FORMAT_GZIP);
+        closed.close();
+
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        OutputStream stream = CompressionUtils.openCompressingStream(target,
+                CompressionUtils.LEVEL_DEFAULT, CompressionUtils.FORMAT_GZIP);
+        try {
+            closed.write(1);
+            fail("Expected IOException");
+        } catch (IOException expected) {
+            // Expected
+        }
+        stream.write(PAYLOAD);
+        stream.close();
+
+        assertArrayEquals(PAYLOAD, decompress(target.toByteArray(), CompressionUtils.FORMAT_GZIP));
+    }
+
+    @Test
+    public void truncatedTrailerThrowsEofException() throws IOException {
+        byte[] compressed = compress(PAYLOAD, CompressionUtils.LEVEL_DEFAULT, CompressionUtils.FORMAT_GZIP);
+
+        assertThrows(EOFException.class, Arrays.copyOf(compressed, compressed.length - 4), CompressionUtils.FORMAT_GZIP);
+    }
+
+    @Test
+    public void truncatedDataThrowsEofException() throws IOException {
+        byte[] gzip = compress(PAYLOAD, CompressionUtils.LEVEL_DEFAULT, CompressionUtils.FORMAT_GZIP);
+        byte[] raw = compress(PAYLOAD, CompressionUtils.LEVEL_DEFAULT, CompressionUtils.FORMAT_RAW_DEFLATE);
+
+        assertThrows(EOFException.class, Arrays.copyOf(gzip, gzip.length / 2), CompressionUtils.FORMAT_GZIP);
+        assertThrows(EOFException.class, Arrays.copyOf(raw, raw.length / 2), CompressionUtils.FORMAT_RAW_DEFLATE);
+        assertThrows(EOFException.class, Arrays.copyOf(gzip, 5), CompressionUtils.FORMAT_GZIP);
+    }
+
+    @Test
+    public void crcMismatchThrowsZipException() throws IOException {
+        byte[] compressed = compress(PAYLOAD, CompressionUtils.LEVEL_DEFAULT, CompressionUtils.FORMAT_GZIP);
+        compressed[compressed.length - 8] ^= 0x01;
+
+        assertThrows(ZipException.class, compressed, CompressionUtils.FORMAT_GZIP);
+    }
+
+    @Test
+    public void sizeMismatchThrowsZipException() throws IOException {
+        byte[] compressed = compress(PAYLOAD, CompressionUtils.LEVEL_DEFAULT, CompressionUtils.FORMAT_GZIP);
+        compressed[compressed.length - 1] ^= 0x01;
+
+        assertThrows(ZipException.class, compressed, CompressionUtils.FORMAT_GZIP);
+    }
+
+    @Test
+    public void corruptDataThrowsZipException() throws IOException {
+        byte[] notGzip = "plain text, not gzip".getBytes(StandardCharsets.US_ASCII);
+        assertThrows(ZipException.class, notGzip, CompressionUtils.FORMAT_GZIP);
+
+        byte[] raw = compress(PAYLOAD, CompressionUtils.LEVEL_DEFAULT, CompressionUtils.FORMAT_RAW_DEFLATE);
+        // BTYPE 11 is reserved and always invalid
+        raw[0] |= 0x06;
+        assertThrows(ZipException.class, raw, CompressionUtils.FORMAT_RAW_DEFLATE);
+    }
+
+    @Test
+    public void gzipIsReadableByGzipInputStream() throws IOException {
+        byte[] compressed = compress(PAYLOAD, CompressionUtils.LEVEL_SMALLEST, CompressionUtils.FORMAT_GZIP);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed));
+        byte[] buffer = new byte[4096];
+        int n;
+        while ((n = in.read(buffer)) != -1) {
+            out.write(buffer, 0, n);
+        }
+        in.close();
+
+        assertArrayEquals(PAYLOAD, out.toByteArray());
+    }
+
+    @Test
+    public void readsGzipOutputStreamData() throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        GZIPOutputStream gzip = new GZIPOutputStream(bos);
+        gzip.write(PAYLOAD);
+        gzip.close();
+        byte[] compressed = bos.toByteArray();
+
+        assertArrayEquals(PAYLOAD, decompress(compressed, CompressionUtils.FORMAT_GZIP));
+
+        // Same member with an FNAME header field, as written by the gzip command line tool
+        byte[] name = "payload.json\0".getBytes(StandardCharsets.US_ASCII);
+        byte[] named = new byte[compressed.length + name.length];
+        System.arraycopy(compressed, 0, named, 0, 10);
+        System.arraycopy(name, 0, named, 10, name.length);
+        System.arraycopy(compressed, 10, named, 10 + name.length, compressed.length - 10);
+        named[3] |= 8;
+
+        assertArrayEquals(PAYLOAD, decompress(named, CompressionUtils.FORMAT_GZIP));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvalidLevel() throws IOException {
+        CompressionUtils.openCompressingStream(new ByteArrayOutputStream(), 0, CompressionUtils.FORMAT_GZIP);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvalidFormat() throws IOException {
+        CompressionUtils.openCompressingStream(new ByteArrayOutputStream(), CompressionUtils.LEVEL_DEFAULT, 2);
+    }
+
+    private static byte[] compress(byte[] data, int level, int format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long read = CompressionUtils.compress(new ByteArrayInputStream(data), out, level, format);
+        assertEquals(data.length, read);
+        return out.toByteArray();
+    }
+
+    private static byte[] decompress(byte[] data, int format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = CompressionUtils.decompress(new ByteArrayInputStream(data), out, format);
+        assertEquals(out.size(), written);
+        return out.toByteArray();
+    }
+
+    private static void assertThrows(Class<? extends IOException> type, byte[] data, int format) {
+        try {
+            decompress(data, format);
+            fail("Expected " + type.getSimpleName());
+        } catch (IOException e) {
+            assertEquals(type, e.getClass());
+        }
+    }
+
+    private static byte[] referenceDeflate(byte[] data, int level) {
+        Deflater deflater = new Deflater(level, true);
+        deflater.setInput(data);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        while (!deflater.finished()) {
+            out.write(buffer, 0, deflater.deflate(buffer));
+        }
+        deflater.end();
+        return out.toByteArray();
+    }
+
+    private static byte[] payload() {
+        Random random = new Random(1);
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 64 * 1024) {
+            sb.append("{\"id\":").append(random.nextInt(100000)).append(",\"event\":\"sync\",\"ok\":")
+                    .append(random.nextBoolean()).append("}\n");
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,502 @@
+package com.global.extensionlibrary;
+
+import com.global.extensionlibrary.DeferredWorkBatcher.ConnectivityListener;
+import com.global.extensionlibrary.DeferredWorkBatcher.ConnectivitySource;
+import com.global.extensionlibrary.DeferredWorkBatcher.NetworkState;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class DeferredWorkBatcherTest {
+
+    private static final NetworkState CELLULAR = new NetworkState(true, false, true);
+    private static final NetworkState CELLULAR_UNVALIDATED = new NetworkState(true, false, false);
+    private static final NetworkState WIFI = new NetworkState(true, true, true);
+
+    private FakeConnectivitySource source;
+    private ManualExecutor executor;
+    private List<String> ran;
+
+    @Before
+    public void setUp() {
+        source = new FakeConnectivitySource(NetworkState.DISCONNECTED);
+        executor = new ManualExecutor();
+        ran = new ArrayList<>();
+    }
+
+    @Test
+    public void deferrableJobsWaitWhileOffline() {
+        DeferredWorkBatcher batcher = newBatcher(5, 60);
+        batcher.submit(job("a"));
+        batcher.submit(job("b"));
+        executor.runReady();
+
+        assertTrue(ran.isEmpty());
+        assertEquals(2, batcher.getPendingCount());
+    }
+
+    @Test
+    public void flushesWhenComingOnline() {
+        DeferredWorkBatcher batcher = newBatcher(5, 60);
+        batcher.submit(job("a"));
+        batcher.submit(job("b"));
+
+        source.setState(CELLULAR);
+        executor.runReady();
+
+        assertEquals(Arrays.asList("a", "b"), ran);
+        assertEquals(0, batcher.getPendingCount());
+    }
+
+    @Test
+    public void comingOnlineWithNothingPendingRunsNothing() {
+        newBatcher(5, 60);
+        source.setState(WIFI);
+
+        assertEquals(0, executor.runReady());
+    }
+
+    @Test
+    public void flushesWhenBecomingUnmetered() {
+        source.setState(CELLULAR);
+        DeferredWorkBatcher batcher = newBatcher(5, 60);
+        batcher.submit(job("a"));
+        executor.runReady();
+        assertTrue(ran.isEmpty());
+
+        source.setState(WIFI);
+        executor.runReady();
+
+        assertEquals(Arrays.asList("a"), ran);
+        assertEquals(0, batcher.getPendingCount());
+    }
+
+    @Test
+    public void flushesWhenBecomingValidated() {
+        source.setState(CELLULAR_UNVALIDATED);
+        DeferredWorkBatcher batcher = newBatcher(5, 60);
+        batcher.submit(job("a"));
+        executor.runReady();
+        assertTrue(ran.isEmpty());
+
+        source.setState(CELLULAR);
+        executor.runReady();
+
+        assertEquals(Arrays.asList("a"), ran);
+    }
+
+    @Test
+    public void unchangedStateDoesNotFlush() {
+        source.setState(CELLULAR);
+        DeferredWorkBatcher batcher = newBatcher(5, 60);
+        batcher.submit(job("a"));
+
+        source.setState(CELLULAR);
+        executor.runReady();
+
+        assertTrue(ran.isEmpty());
+        assertEquals(1, batcher.getPendingCount());
+    }
+
+    @Test
+    public void flushesAtSizeThresholdWhenOnline() {
+        source.setState(CELLULAR);
+        DeferredWorkBatcher batcher = newBatcher(3, 60);
+        batcher.submit(job("a"));
+        batcher.submit(job("b"));
+        executor.runReady();
+        assertTrue(ran.isEmpty());
+
+        batcher.submit(job("c"));
+        executor.runReady();
+
+        assertEquals(Arrays.asList("a", "b", "c"), ran);
+        assertEquals(0, batcher.getPendingCount());
+        // The deadline of the flushed batch is cancelled
+        assertEquals(0, executor.getScheduledCount());
+    }
+
+    @Test
+    public void sizeThresholdWaitsForNetwork() {
+        DeferredWorkBatcher batcher = newBatcher(2, 60);
+        batcher.submit(job("a"));
+        batcher.submit(job("b"));
+        batcher.submit(job("c"));
+        executor.runReady();
+        assertTrue(ran.isEmpty());
+
+        source.setState(CELLULAR);
+        executor.runReady();
+
+        assertEquals(Arrays.asList("a", "b", "c"), ran);
+    }
+
+    @Test
+    public void flushesAtDeadlineWhenOnline() {
+        source.setState(CELLULAR);
+        DeferredWorkBatcher batcher = newBatcher(5, 60);
+        batcher.submit(job("a"));
+
+        executor.advanceBy(59, TimeUnit.SECONDS);
+        assertTrue(ran.isEmpty());
+
+        executor.advanceBy(1, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList("a"), ran);
+        assertEquals(0, batcher.getPendingCount());
+    }
+
+    @Test
+    public void deadlineIsMeasuredFromOldestJob() {
+        source.setState(CELLULAR);
+        DeferredWorkBatcher batcher = newBatcher(5, 60);
+        batcher.submit(job("a"));
+        executor.advanceBy(40, TimeUnit.SECONDS);
+        batcher.submit(job("b"));
+
+        executor.advanceBy(20, TimeUnit.SECONDS);
+
+        assertEquals(Arrays.asList("a", "b"), ran);
+    }
+
+    @Test
+    public void deadlineWhileOfflineFlushesOnAnyConnection() {
+        DeferredWorkBatcher batcher = newBatcher(5, 60);
+        batcher.submit(job("a"));
+
+        executor.advanceBy(2, TimeUnit.MINUTES);
+        assertTrue(ran.isEmpty());
+        assertEquals(1, batcher.getPendingCount());
+
+        source.setState(CELLULAR_UNVALIDATED);
+        executor.runReady();
+
+        assertEquals(Arrays.asList("a"), ran);
+        assertEquals(0, batcher.getPendingCount());
+    }
+
+    @Test
+    public void urgentJobRunsImmediatelyAndTakesBatch() {
+        source.setState(CELLULAR);
+        DeferredWorkBatcher batcher = newBatcher(5, 60);
+        batcher.submit(job("a"));
+        batcher.submit(job("b"));
+
+        batcher.submit(job("urgent"), DeferredWorkBatcher.PRIORITY_URGENT);
+        executor.runReady();
+
+        assertEquals(Arrays.asList("urgent", "a", "b"), ran);
+        assertEquals(0, batcher.getPendingCount());
+        assertEquals(0, executor.getScheduledCount());
+    }
+
+    @Test
+    public void urgentJobRunsOfflineWithoutTakingBatch() {
+        DeferredWorkBatcher batcher = newBatcher(5, 60);
+        batcher.submit(job("a"));
+
+        batcher.submit(job("urgent"), DeferredWorkBatcher.PRIORITY_URGENT);
+        executor.runReady();
+
+        assertEquals(Arrays.asList("urgent"), ran);
+        assertEquals(1, batcher.getPendingCount());
+    }
+
+    @Test
+    public void flushRunsRegardlessOfConnectivity() {
+        DeferredWorkBatcher batcher = newBatcher(5, 60);
+        batcher.submit(job("a"));
+
+        batcher.flush();
+        executor.runReady();
+
+        assertEquals(Arrays.asList("a"), ran);
+    }
+
+    @Test
+    public void failingJobDoesNotStopBatch() {
+        final List<RuntimeException> errors = new ArrayList<>();
+        DeferredWorkBatcher batcher = new DeferredWorkBatcher.Builder(source)
+                .setExecutor(executor)
+                .setOnJobFailedListener(new DeferredWorkBatcher.OnJobFailedListener() {
+                    @Override
+                    public void onJobFailed(Runnable job, RuntimeException error) {
+                        errors.add(error);
+                    }
+                })
+                .build();
+        final RuntimeException failure = new IllegalStateException("boom");
+        batcher.submit(job("a"));
+        batcher.submit(new Runnable() {
+            @Override
+            public void run() {
+                throw failure;
+            }
+        });
+        batcher.submit(job("c"));
+
+        batcher.flush();
+        executor.runReady();
+
+        assertEquals(Arrays.asList("a", "c"), ran);
+        assertEquals(1, errors.size());
+        assertSame(failure, errors.get(0));
+    }
+
+    @Test
+    public void shutdownDropsPendingAndStopsListening() {
+        DeferredWorkBatcher batcher = newBatcher(5, 60);
+        Runnable a = job("a");
+        Runnable b = job("b");
+        batcher.submit(a);
+        batcher.submit(b);
+
+        List<Runnable> dropped = batcher.shutdown();
+
+        assertEquals(Arrays.asList(a, b), dropped);
+        assertNull(source.listener);
+        assertEquals(0, batcher.getPendingCount());
+        assertEquals(0, executor.getScheduledCount());
+        // A caller-supplied executor is left running
+        assertFalse(executor.isShutdown());
+        assertTrue(batcher.shutdown().isEmpty());
+
+        executor.advanceBy(2, TimeUnit.MINUTES);
+        assertTrue(ran.isEmpty());
+
+        try {
+            batcher.submit(job("c"));
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException expected) {
+            // Expected
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsZeroBatchSize() {
+        new DeferredWorkBatcher.Builder(source).setMaxBatchSize(0);
+    }
+
+    @Test
+    public void networkStateRequiresConnection() {
+        NetworkState state = new NetworkState(false, true, true);
+
+        assertFalse(state.isUnmetered());
+        assertFalse(state.isValidated());
+    }
+
+    private DeferredWorkBatcher newBatcher(int maxBatchSize, long maxDelaySeconds) {
+        return new DeferredWorkBatcher.Builder(source)
+                .setExecutor(executor)
+                .setMaxBatchSize(maxBatchSize)
+                .setMaxDelay(maxDelaySeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    private Runnable job(final String name) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                ran.add(name);
+            }
+        };
+    }
+
+    private static final class FakeConnectivitySource implements ConnectivitySource {
+
+        NetworkState state;
+        ConnectivityListener listener;
+
+        FakeConnectivitySource(NetworkState state) {
+            this.state = state;
+        }
+
+        void setState(NetworkState newState) {
+            state = newState;
+            if (listener != null) listener.onNetworkStateChanged(newState);
+        }
+
+        @Override
+        public NetworkState getCurrentState() {
+            return state;
+        }
+
+        @Override
+        public void setListener(ConnectivityListener listener) {
+            this.listener = listener;
+        }
+    }
+
+    /**
+     * Single-threaded executor driven by the test: tasks run only from runReady() or advanceBy(),
+     * and scheduled tasks become ready when the virtual clock reaches them.
+     */
+    private static final class ManualExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+
+        private final List<Runnable> ready = new ArrayList<>();
+        private final List<ManualFuture> scheduled = new ArrayList<>();
+        private long nowMillis;
+        private boolean shutdown;
+
+        int runReady() {
+            int count = 0;
+            while (!ready.isEmpty()) {
+                ready.remove(0).run();
+                count++;
+            }
+            return count;
+        }
+
+        void advanceBy(long amount, TimeUnit unit) {
+            long target = nowMillis + unit.toMillis(amount);
+            runReady();
+            while (true) {
+                ManualFuture next = null;
+                for (ManualFuture future : scheduled) {
+                    if (future.atMillis <= target && (next == null || future.atMillis < next.atMillis)) {
+                        next = future;
+                    }
+                }
+                if (next == null) break;
+
+                scheduled.remove(next);
+                nowMillis = next.atMillis;
+                next.task.run();
+                runReady();
+            }
+            nowMillis = target;
+        }
+
+        int getScheduledCount() {
+            return scheduled.size();
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            ready.add(command);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            ManualFuture future = new ManualFuture(command, nowMillis + unit.toMillis(delay));
+            scheduled.add(future);
+            return future;
+        }
+
+        @Override
+        public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            List<Runnable> remaining = new ArrayList<>(ready);
+            ready.clear();
+            return remaining;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown && ready.isEmpty();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return isTerminated();
+        }
+
+        private final class ManualFuture implements ScheduledFuture<Object> {
+
+            final Runnable task;
+            final long atMillis;
+            boolean cancelled;
+            boolean done;
+
+            ManualFuture(Runnable task, long atMillis) {
+                this.task = new Runnable() {
+                    @Override
+                    public void run() {
+                        done = true;
+                        task.run();
+                    }
+                };
+                this.atMillis = atMillis;
+            }
+
+            @Override
+            public long getDelay(TimeUnit unit) {
+                return unit.convert(atMillis - nowMillis, TimeUnit.MILLISECONDS);
+            }
+
+            @Override
+            public int compareTo(Delayed other) {
+                return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+            }
+
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                if (done || cancelled) return false;
+                cancelled = true;
+                scheduled.remove(this);
+                return true;
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return cancelled;
+            }
+
+            @Override
+            public boolean isDone() {
+                return done || cancelled;
+            }
+
+            @Override
+            public Object get() {
+                return null;
+            }
+
+            @Override
+            public Object get(long timeout, TimeUnit unit) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.global.extensionlibrary;
+
+import org.junit.Test;
+
+import static com.global.extensionlibrary.DeviceProfile.PERFORMANCE_CLASS_HIGH;
+import static com.global.extensionlibrary.DeviceProfile.PERFORMANCE_CLASS_LOW;
+import static com.global.extensionlibrary.DeviceProfile.PERFORMANCE_CLASS_MID;
+import static org.junit.Assert.assertEquals;
+
+public class DeviceProfileTest {
+
+    private static final long MB = 1024L * 1024L;
+    private static final long GB = 1024L * MB;
+
+    /** Build.VERSION_CODES.R and S */
+    private static final int MEDIA_CLASS_R = 30;
+    private static final int MEDIA_CLASS_S = 31;
+
+    @Test
+    public void twoGigabyteBoundaryUsesNominalRam() {
+        // A nominal 2 GB device reports roughly 1.8 GB of kernel-visible memory
+        assertEquals(PERFORMANCE_CLASS_MID, classifyRam(1843 * MB));
+        assertEquals(PERFORMANCE_CLASS_MID, classifyRam(GB + 1));
+        assertEquals(PERFORMANCE_CLASS_LOW, classifyRam(GB));
+        assertEquals(PERFORMANCE_CLASS_LOW, classifyRam(900 * MB));
+    }
+
+    @Test
+    public void sixGigabyteBoundaryUsesNominalRam() {
+        // A nominal 6 GB device reports roughly 5.5 GB
+        assertEquals(PERFORMANCE_CLASS_HIGH, classifyRam(5632 * MB));
+        assertEquals(PERFORMANCE_CLASS_HIGH, classifyRam(5 * GB + 1));
+        assertEquals(PERFORMANCE_CLASS_MID, classifyRam(5 * GB));
+        // A nominal 4 GB device
+        assertEquals(PERFORMANCE_CLASS_MID, classifyRam(3686 * MB));
+        assertEquals(PERFORMANCE_CLASS_HIGH, classifyRam(11 * GB + 512 * MB));
+    }
+
+    @Test
+    public void coresAndHeapLimitCap() {
+        assertEquals(PERFORMANCE_CLASS_LOW, DeviceProfile.classify(2, 8 * GB, false, 512, 0));
+        assertEquals(PERFORMANCE_CLASS_MID, DeviceProfile.classify(4, 8 * GB, false, 512, 0));
+        assertEquals(PERFORMANCE_CLASS_LOW, DeviceProfile.classify(8, 8 * GB, false, 96, 0));
+        assertEquals(PERFORMANCE_CLASS_MID, DeviceProfile.classify(8, 8 * GB, false, 192, 0));
+        assertEquals(PERFORMANCE_CLASS_HIGH, DeviceProfile.classify(8, 8 * GB, false, 256, 0));
+    }
+
+    @Test
+    public void lowRamDeviceIsAlwaysLow() {
+        assertEquals(PERFORMANCE_CLASS_LOW, DeviceProfile.classify(8, 12 * GB, true, 512, 0));
+    }
+
+    @Test
+    public void mediaPerformanceClassOverridesFigures() {
+        assertEquals(PERFORMANCE_CLASS_HIGH, DeviceProfile.classify(4, 3686 * MB, false, 192, MEDIA_CLASS_R));
+        assertEquals(PERFORMANCE_CLASS_HIGH, DeviceProfile.classify(2, GB, true, 64, MEDIA_CLASS_S));
+        // Values below R are not a performance class
+        assertEquals(PERFORMANCE_CLASS_MID, DeviceProfile.classify(4, 3686 * MB, false, 192, MEDIA_CLASS_R - 1));
+    }
+
+    private static int classifyRam(long totalRamBytes) {
+        // Cores and heap limit high enough that only RAM decides
+        return DeviceProfile.classify(8, totalRamBytes, false, 512, 0);
+    }
+}
@@ -0,0 +1,110 @@
+package com.global.extensionlibrary;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Timing harness comparing the md5 cache-key path with HashUtils on URL-sized keys.
+ * Prints nanoseconds per key for each hash. Skipped unless enabled with -Dbenchmark=true,
+ * e.g. ./gradlew :extensionlibrary:testDebugUnitTest -Dbenchmark=true -Dbenchmark.iterations=50
+ */
+public class HashBenchmarkTest {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 5);
+    private static final int KEY_COUNT = 10000;
+
+    private final String[] keys = urlKeys(KEY_COUNT);
+
+    /** Keeps results reachable so the JIT cannot drop the hashing */
+    private long sink;
+
+    @Before
+    public void setUp() {
+        assumeTrue(Boolean.getBoolean("benchmark"));
+    }
+
+    @Test
+    public void urlKeys() throws NoSuchAlgorithmException {
+        assertEquals(AndroidUtilsMd5.md5("abc"), "900150983cd24fb0d6963f7d28e17f72");
+
+        final long[] out = new long[2];
+        time("md5 + hex", new Hash() {
+            @Override
+            public long hash(String key) throws NoSuchAlgorithmException {
+                return AndroidUtilsMd5.md5(key).length();
+            }
+        });
+        time("xxHash64", new Hash() {
+            @Override
+            public long hash(String key) {
+                return HashUtils.xxHash64(key);
+            }
+        });
+        time("xxHash64 + hex", new Hash() {
+            @Override
+            public long hash(String key) {
+                return HashUtils.toHex(HashUtils.xxHash64(key)).length();
+            }
+        });
+        time("murmur3_128", new Hash() {
+            @Override
+            public long hash(String key) {
+                return HashUtils.murmur3_128(key, 0, out) ^ out[1];
+            }
+        });
+    }
+
+    private void time(String name, Hash hash) throws NoSuchAlgorithmException {
+        // Warm up, then time
+        for (int round = 0; round < 3; round++) {
+            for (String key : keys) {
+                sink += hash.hash(key);
+            }
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (String key : keys) {
+                sink += hash.hash(key);
+            }
+        }
+        long nanos = (System.nanoTime() - start) / ((long) ITERATIONS * keys.length);
+        System.out.println(String.format(Locale.US, "%-15s %5d ns/key", name, nanos));
+    }
+
+    private static String[] urlKeys(int count) {
+        Random random = new Random(11);
+        String[] hosts = {"cdn.example.com", "api.example.org", "images.example.net", "static.example.io"};
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = "https://" + hosts[random.nextInt(hosts.length)] + "/v2/media/"
+                    + Long.toHexString(random.nextLong()) + "/thumbnail_" + random.nextInt(2048)
+                    + ".jpg?w=" + (120 + random.nextInt(960)) + "&q=80";
+        }
+        return keys;
+    }
+
+    private interface Hash {
+        long hash(String key) throws NoSuchAlgorithmException;
+    }
+
+    /**
+     * The body of AndroidUtils.md5 without its TextUtils guard, which is not available in
+     * local unit tests
+     */
+    private static final class AndroidUtilsMd5 {
+
+        static String md5(String input) throws NoSuchAlgorithmException {
+            MessageDigest md = MessageDigest.getInstance("MD5");
+            byte[] digest = md.digest(input.getBytes());
+            return HashUtils.toHex(digest);
+        }
+    }
+}
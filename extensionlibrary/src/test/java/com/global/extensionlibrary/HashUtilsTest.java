@@ -0,0 +1,148 @@
+package com.global.extensionlibrary;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class HashUtilsTest {
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static String randomString(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            // Stay below the surrogate range so the UTF-16LE encoding round-trips
+            chars[i] = (char) random.nextInt(0xD800);
+        }
+        return new String(chars);
+    }
+
+    @Test
+    public void xxHash64_referenceVectors() {
+        assertEquals(0xEF46DB3751D8E999L, HashUtils.xxHash64(ascii("")));
+        assertEquals(0xD24EC4F1A98C6E5BL, HashUtils.xxHash64(ascii("a")));
+        assertEquals(0x44BC2CF5AD770999L, HashUtils.xxHash64(ascii("abc")));
+        assertEquals(0xFBCEA83C8A378BF1L, HashUtils.xxHash64(ascii("Nobody inspects the spammish repetition")));
+    }
+
+    @Test
+    public void murmur3_referenceVector() {
+        byte[] fox = ascii("The quick brown fox jumps over the lazy dog");
+        long[] out = new long[2];
+        long low = HashUtils.murmur3_128(fox, 0, fox.length, 0, out);
+
+        assertEquals(0xE34BBC7BBC071B6CL, low);
+        assertArrayEquals(new long[]{0xE34BBC7BBC071B6CL, 0x7A433CA9C49A9347L}, out);
+        assertEquals(0L, HashUtils.murmur3_64(new byte[0]));
+    }
+
+    @Test
+    public void stringHashesEqualUtf16LeBytes() {
+        Random random = new Random(3);
+        for (int length = 0; length < 200; length++) {
+            String s = randomString(random, length);
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_16LE);
+
+            assertEquals("xxHash64 length " + length, HashUtils.xxHash64(bytes), HashUtils.xxHash64(s));
+
+            long[] fromBytes = new long[2];
+            long[] fromString = new long[2];
+            HashUtils.murmur3_128(bytes, 0, bytes.length, 7, fromBytes);
+            HashUtils.murmur3_128(s, 7, fromString);
+            assertArrayEquals(fromBytes, fromString);
+        }
+    }
+
+    @Test
+    public void incrementalMatchesOneShot() {
+        Random random = new Random(5);
+        for (int length = 0; length < 300; length++) {
+            byte[] data = new byte[length];
+            random.nextBytes(data);
+            long expected = HashUtils.xxHash64(data);
+
+            // Random chunking across heap arrays and direct buffers
+            XxHash64 hasher = new XxHash64();
+            int position = 0;
+            while (position < length) {
+                int chunk = Math.min(length - position, random.nextInt(40));
+                if (random.nextBoolean()) {
+                    hasher.update(data, position, chunk);
+                } else {
+                    ByteBuffer direct = ByteBuffer.allocateDirect(chunk);
+                    direct.put(data, position, chunk).flip();
+                    hasher.update(direct);
+                }
+                position += chunk;
+            }
+            assertEquals("length " + length, expected, hasher.getValue());
+            assertEquals(expected, hasher.reset().update(data).getValue());
+        }
+    }
+
+    @Test
+    public void incrementalCharsAfterOddByteCount() {
+        String s = randomString(new Random(9), 50);
+        byte[] chars = s.getBytes(StandardCharsets.UTF_16LE);
+        byte[] combined = new byte[chars.length + 1];
+        combined[0] = 1;
+        System.arraycopy(chars, 0, combined, 1, chars.length);
+
+        long incremental = new XxHash64().update(new byte[]{1}).update(s).getValue();
+        assertEquals(HashUtils.xxHash64(combined), incremental);
+    }
+
+    @Test
+    public void updateLongIsLittleEndian() {
+        long value = 0x0123456789ABCDEFL;
+        byte[] bytes = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(value).array();
+        assertEquals(HashUtils.xxHash64(bytes), new XxHash64().update(value).getValue());
+    }
+
+    @Test
+    public void byteBufferDoesNotMovePosition() {
+        byte[] data = new byte[100];
+        new Random(1).nextBytes(data);
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data).flip();
+        ByteBuffer heap = ByteBuffer.wrap(data, 10, 50);
+
+        assertEquals(HashUtils.xxHash64(data), HashUtils.xxHash64(direct));
+        assertEquals(0, direct.position());
+        assertEquals(HashUtils.xxHash64(data, 10, 50, 0), HashUtils.xxHash64(heap));
+        assertEquals(10, heap.position());
+    }
+
+    @Test
+    public void fileMatchesBytes() throws IOException {
+        byte[] data = new byte[20000];
+        new Random(2).nextBytes(data);
+        File file = File.createTempFile("hash", ".bin");
+        try {
+            try (FileOutputStream out = new FileOutputStream(file)) {
+                out.write(data);
+            }
+            assertEquals(HashUtils.xxHash64(data), HashUtils.xxHash64(file));
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void toHex() {
+        assertEquals("0000000000000abc", HashUtils.toHex(0xABCL));
+        assertEquals("ffffffffffffffff", HashUtils.toHex(-1L));
+        assertEquals("fe01", HashUtils.toHex(new byte[]{(byte) 0xFE, 1}));
+    }
+}
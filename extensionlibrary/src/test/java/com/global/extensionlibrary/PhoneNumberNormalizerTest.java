@@ -0,0 +1,140 @@
+package com.global.extensionlibrary;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class PhoneNumberNormalizerTest {
+
+    private final PhoneNumberNormalizer us = PhoneNumberNormalizer.forRegion("US");
+    private final PhoneNumberNormalizer gb = PhoneNumberNormalizer.forRegion("GB");
+
+    @Test
+    public void regionTable() {
+        assertEquals(1, us.getCallingCode());
+        assertEquals(1, PhoneNumberNormalizer.forRegion("us").getCallingCode());
+        assertEquals(44, gb.getCallingCode());
+        assertEquals(91, PhoneNumberNormalizer.forRegion("IN").getCallingCode());
+        assertEquals(7, PhoneNumberNormalizer.forRegion("RU").getCallingCode());
+        assertEquals(852, PhoneNumberNormalizer.forRegion("HK").getCallingCode());
+        assertNull(PhoneNumberNormalizer.forRegion("XX"));
+        assertNull(PhoneNumberNormalizer.forRegion(null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownCallingCode() {
+        PhoneNumberNormalizer.forCallingCode(999);
+    }
+
+    @Test
+    public void formattingIsStripped() {
+        assertEquals("+14155551234", us.normalize("(415) 555-1234"));
+        assertEquals("+14155551234", us.normalize("415.555.1234"));
+        assertEquals("+14155551234", us.normalize("+1 415 555 1234"));
+        assertEquals("+14155551234", us.normalize("415/555 1234"));
+    }
+
+    @Test
+    public void internationalPrefix() {
+        assertEquals("+442079460958", us.normalize("011 44 20 7946 0958"));
+        assertEquals("+14155551234", gb.normalize("00 1 415 555 1234"));
+        assertEquals("+61212345678", PhoneNumberNormalizer.forRegion("AU").normalize("0011 61 2 1234 5678"));
+    }
+
+    @Test
+    public void trunkPrefix() {
+        assertEquals("+14155551234", us.normalize("1-415-555-1234"));
+        assertEquals("+442079460958", gb.normalize("020 7946 0958"));
+        assertEquals("+74951234567", PhoneNumberNormalizer.forRegion("RU").normalize("8 (495) 123-45-67"));
+        // Italian numbers keep their leading zero
+        assertEquals("+390612345678", PhoneNumberNormalizer.forRegion("IT").normalize("06 1234 5678"));
+    }
+
+    @Test
+    public void bracketedTrunkPrefixAfterCallingCode() {
+        assertEquals("+442079460958", us.normalize("+44 (0)20 7946 0958"));
+        assertEquals("+442079460958", gb.normalize("0044 (0)20 7946 0958"));
+        assertEquals("+442079460958", us.normalize("011 44 (0)20 7946 0958"));
+        assertEquals("+442079460958", us.normalize("+44(0)2079460958"));
+        // Anywhere else the bracketed zero is an ordinary digit
+        assertEquals("+14150555123", us.normalize("+1 415 (0)55 5123"));
+    }
+
+    @Test
+    public void extensionsEndTheNumber() {
+        assertEquals("+14155551234", us.normalize("415 555 1234 x22"));
+        assertEquals("+14155551234", us.normalize("415 555 1234 ext. 22"));
+        assertEquals("+14155551234", us.normalize("415-555-1234,,5"));
+        assertEquals("+14155551234", us.normalize("415-555-1234;5"));
+    }
+
+    @Test
+    public void incompleteNumbersAreRejected() {
+        // Local number without area code cannot be completed
+        assertNull(us.normalize("555-1234"));
+        assertNull(us.normalize("+1 555 1234"));
+        assertNull(us.normalize("415 555 12345"));
+        assertNull(PhoneNumberNormalizer.forRegion("IN").normalize("98765 4321"));
+        assertNull(gb.normalize("123"));
+    }
+
+    @Test
+    public void invalidInput() {
+        assertNull(us.normalize(null));
+        assertNull(us.normalize(""));
+        assertNull(us.normalize("abc"));
+        assertNull(us.normalize("+999 1234567"));
+        assertNull(us.normalize("+1 415 + 555 1234"));
+        assertNull(us.normalize("x123"));
+        assertNull(us.normalize("+1 234 567 890 123 456 789"));
+    }
+
+    @Test
+    public void unknownRegionAcceptsInternationalNumbersOnly() {
+        PhoneNumberNormalizer unknown = PhoneNumberNormalizer.forUnknownRegion();
+
+        assertEquals(0, unknown.getCallingCode());
+        assertEquals("+442079460958", unknown.normalize("+44 20 7946 0958"));
+        assertEquals("+442079460958", unknown.normalize("0044 (0)20 7946 0958"));
+        assertEquals("+14155551234", unknown.normalize("+1 (415) 555-1234 x22"));
+        assertNull(unknown.normalize("020 7946 0958"));
+        assertNull(unknown.normalize("(415) 555-1234"));
+        assertNull(unknown.normalize("+1 555 1234"));
+    }
+
+    @Test
+    public void normalizeIntoBuffer() {
+        char[] buffer = new char[PhoneNumberNormalizer.BUFFER_SIZE];
+        int length = us.normalize("(415) 555-1234", buffer);
+
+        assertEquals(12, length);
+        assertEquals("+14155551234", new String(buffer, 0, length));
+        assertEquals(-1, us.normalize("555-1234", buffer));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bufferTooSmall() {
+        us.normalize("4155551234", new char[8]);
+    }
+
+    @Test
+    public void normalizeAll() {
+        List<String> inputs = new ArrayList<>();
+        String[] expected = new String[20000];
+        for (int i = 0; i < expected.length; i++) {
+            String subscriber = String.valueOf(1000 + i % 9000);
+            inputs.add(i % 3 == 0 ? "555-" + subscriber : "(415) 555-" + subscriber);
+            expected[i] = i % 3 == 0 ? null : "+1415555" + subscriber;
+        }
+
+        assertArrayEquals(expected, us.normalizeAll(inputs));
+        assertArrayEquals(new String[]{"+442079460958", null},
+                gb.normalizeAll(Arrays.asList("020 7946 0958", "nope")));
+    }
+}
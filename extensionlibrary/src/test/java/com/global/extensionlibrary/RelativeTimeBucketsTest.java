@@ -0,0 +1,107 @@
+package com.global.extensionlibrary;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static com.global.extensionlibrary.RelativeTimeBuckets.DAY;
+import static com.global.extensionlibrary.RelativeTimeBuckets.HOUR;
+import static com.global.extensionlibrary.RelativeTimeBuckets.MINUTE;
+import static com.global.extensionlibrary.RelativeTimeBuckets.MONTH;
+import static com.global.extensionlibrary.RelativeTimeBuckets.SECOND;
+import static com.global.extensionlibrary.RelativeTimeBuckets.WEEK;
+import static com.global.extensionlibrary.RelativeTimeBuckets.YEAR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RelativeTimeBucketsTest {
+
+    private static final long TIME = 1700000000000L;
+
+    @Test
+    public void unitBoundaries() {
+        assertBucket("now", 0);
+        assertBucket("now", MINUTE - 1);
+        assertBucket("minutes:1", MINUTE);
+        assertBucket("minutes:59", HOUR - 1);
+        assertBucket("hours:1", HOUR);
+        assertBucket("hours:23", DAY - 1);
+        assertBucket("days:1", DAY);
+        assertBucket("days:6", WEEK - 1);
+        assertBucket("weeks:1", WEEK);
+        assertBucket("weeks:4", MONTH - 1);
+        assertBucket("months:1", MONTH);
+        assertBucket("months:12", YEAR - 1);
+        assertBucket("years:1", YEAR);
+        assertBucket("years:150", 150 * YEAR + DAY);
+    }
+
+    @Test
+    public void nowWindowCoversOneMinuteEitherSide() {
+        assertEquals(TIME + MINUTE, RelativeTimeBuckets.nextChangeMillis(TIME, TIME));
+        assertEquals(TIME + MINUTE, RelativeTimeBuckets.nextChangeMillis(TIME, TIME + MINUTE - 1));
+        assertEquals(TIME + MINUTE, RelativeTimeBuckets.nextChangeMillis(TIME, TIME - MINUTE + 1));
+        // Exactly a minute ahead is still "in 1 minute" until one millisecond later
+        assertEquals(TIME - MINUTE + 1, RelativeTimeBuckets.nextChangeMillis(TIME, TIME - MINUTE));
+    }
+
+    @Test
+    public void pastChangesAtNextCountOrUnit() {
+        assertEquals(TIME + 2 * MINUTE, RelativeTimeBuckets.nextChangeMillis(TIME, TIME + MINUTE));
+        assertEquals(TIME + HOUR, RelativeTimeBuckets.nextChangeMillis(TIME, TIME + 59 * MINUTE + 30 * SECOND));
+        assertEquals(TIME + 2 * HOUR, RelativeTimeBuckets.nextChangeMillis(TIME, TIME + HOUR));
+        assertEquals(TIME + DAY, RelativeTimeBuckets.nextChangeMillis(TIME, TIME + 23 * HOUR));
+        assertEquals(TIME + WEEK, RelativeTimeBuckets.nextChangeMillis(TIME, TIME + 6 * DAY));
+        // 4 weeks would next become 5 weeks, but a month starts at 30 days
+        assertEquals(TIME + MONTH, RelativeTimeBuckets.nextChangeMillis(TIME, TIME + 4 * WEEK));
+        // 12 months would next become 13, but a year starts at 365 days
+        assertEquals(TIME + YEAR, RelativeTimeBuckets.nextChangeMillis(TIME, TIME + 12 * MONTH));
+        assertEquals(TIME + 3 * YEAR, RelativeTimeBuckets.nextChangeMillis(TIME, TIME + 2 * YEAR));
+    }
+
+    @Test
+    public void futureChangesWhenCountDrops() {
+        assertEquals(TIME - MINUTE + 1, RelativeTimeBuckets.nextChangeMillis(TIME, TIME - MINUTE - 30 * SECOND));
+        assertEquals(TIME - HOUR + 1, RelativeTimeBuckets.nextChangeMillis(TIME, TIME - HOUR - MINUTE));
+        assertEquals(TIME - 2 * HOUR + 1, RelativeTimeBuckets.nextChangeMillis(TIME, TIME - 2 * HOUR));
+        assertEquals(TIME - DAY + 1, RelativeTimeBuckets.nextChangeMillis(TIME, TIME - DAY - HOUR));
+        assertEquals(TIME - WEEK + 1, RelativeTimeBuckets.nextChangeMillis(TIME, TIME - WEEK));
+        assertEquals(TIME - 4 * WEEK + 1, RelativeTimeBuckets.nextChangeMillis(TIME, TIME - MONTH + 1));
+        assertEquals(TIME - MONTH + 1, RelativeTimeBuckets.nextChangeMillis(TIME, TIME - MONTH - DAY));
+        assertEquals(TIME - 12 * MONTH + 1, RelativeTimeBuckets.nextChangeMillis(TIME, TIME - YEAR + 1));
+        assertEquals(TIME - YEAR + 1, RelativeTimeBuckets.nextChangeMillis(TIME, TIME - YEAR - DAY));
+    }
+
+    @Test
+    public void labelHoldsUntilNextChangeThenChanges() {
+        Random random = new Random(3);
+        long[] scales = {SECOND, MINUTE, HOUR, DAY, WEEK, MONTH, YEAR, 10 * YEAR};
+        for (int i = 0; i < 20000; i++) {
+            long offset = (long) (random.nextDouble() * scales[i % scales.length] * 2);
+            long now = random.nextBoolean() ? TIME + offset : TIME - offset;
+            long next = RelativeTimeBuckets.nextChangeMillis(TIME, now);
+
+            assertTrue("next change " + next + " not after now " + now, next > now);
+            String label = bucket(TIME, now);
+            assertEquals("now " + now, label, bucket(TIME, next - 1));
+            assertNotEquals("now " + now, label, bucket(TIME, next));
+        }
+    }
+
+    private static void assertBucket(String expected, long age) {
+        assertEquals(expected.equals("now") ? expected : "ago " + expected, bucket(TIME, TIME + age));
+        assertEquals(expected.equals("now") ? expected : "in " + expected, bucket(TIME, TIME - age));
+    }
+
+    /** Everything that determines the formatted label */
+    private static String bucket(long time, long now) {
+        long diff = now - time;
+        long age = Math.abs(diff);
+        int unit = RelativeTimeBuckets.unitFor(age);
+        if (unit == RelativeTimeBuckets.UNIT_NOW) return "now";
+
+        String[] names = {"minutes", "hours", "days", "weeks", "months", "years"};
+        return (diff < 0 ? "in " : "ago ") + names[unit] + ":" + RelativeTimeBuckets.countFor(age, unit);
+    }
+}